@@ -1 +1,2 @@
-nohup mvn spring-boot:run -Dspring-boot.run.profiles=ci &
\ No newline at end of file
+nohup mvn -pl server spring-boot:run -Dspring-boot.run.profiles=ci &
+nohup mvn -pl gateway spring-boot:run &
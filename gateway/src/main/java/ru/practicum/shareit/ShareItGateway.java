@@ -0,0 +1,13 @@
+package ru.practicum.shareit;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ShareItGateway {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ShareItGateway.class, args);
+	}
+
+}
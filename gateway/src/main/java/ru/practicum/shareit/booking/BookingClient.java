@@ -0,0 +1,75 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Бронирования меняют карточки вещей, их свободные интервалы и поиск по датам,
+ * поэтому любое успешное изменение сбрасывает ResponseCache.
+ */
+@Service
+public class BookingClient extends BaseClient {
+
+    private static final String API_PREFIX = "/bookings";
+
+    private final ResponseCache responseCache;
+
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory serverRequestFactory, ResponseCache responseCache) {
+        super(builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .requestFactory(() -> serverRequestFactory)
+                .build());
+        this.responseCache = responseCache;
+    }
+
+    public ResponseEntity<byte[]> createBooking(long userId, BookingDto bookingDto) {
+        return responseCache.evictOnSuccess(post("", userId, bookingDto));
+    }
+
+    public ResponseEntity<byte[]> createBookings(long userId, List<BookingDto> bookingDtos) {
+        return responseCache.evictOnSuccess(post("/batch", userId, bookingDtos));
+    }
+
+    public ResponseEntity<byte[]> updateBooking(long userId, long bookingId, boolean approved) {
+        return responseCache.evictOnSuccess(patch("/" + bookingId, userId, Map.of("approved", approved), null));
+    }
+
+    public ResponseEntity<byte[]> decideBookings(long userId, BookingDecisionsDto decisions) {
+        return responseCache.evictOnSuccess(patch("/owner/decisions", userId, decisions));
+    }
+
+    public ResponseEntity<byte[]> getBookingById(long userId, long bookingId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public ResponseEntity<byte[]> getBookings(long userId, BookingState state, int from, int size, String after) {
+        return get("", userId, pageParameters(state, from, size, after));
+    }
+
+    public ResponseEntity<byte[]> getOwnerBookings(long userId, BookingState state, int from, int size, String after) {
+        return get("/owner", userId, pageParameters(state, from, size, after));
+    }
+
+    private static Map<String, Object> pageParameters(BookingState state, int from, int size, String after) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("state", state.name());
+        parameters.put("from", from);
+        parameters.put("size", size);
+        parameters.put("after", after);
+        return parameters;
+    }
+}
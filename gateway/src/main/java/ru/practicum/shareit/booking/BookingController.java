@@ -0,0 +1,106 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingDecisionMode;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.exception.ValidationException;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
+
+@RestController
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Validated
+public class BookingController {
+
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final BookingClient bookingClient;
+
+    @PostMapping
+    public ResponseEntity<byte[]> createBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                @RequestBody @Valid BookingDto bookingDto) {
+        if (bookingDto.getStart().isAfter(bookingDto.getEnd())) {
+            throw new ValidationException("Start after end");
+        }
+        return bookingClient.createBooking(userId, bookingDto);
+    }
+
+    /*
+     * Записи пакета сервер проверяет по отдельности и возвращает результат по каждой,
+     * поэтому здесь проверяется только размер пакета.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<byte[]> createBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                 @RequestBody List<BookingDto> bookingDtos) {
+        requireBatch(bookingDtos);
+        return bookingClient.createBookings(userId, bookingDtos);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public ResponseEntity<byte[]> updateBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                @PathVariable Long bookingId, @RequestParam Boolean approved) {
+        return bookingClient.updateBooking(userId, bookingId, approved);
+    }
+
+    @PatchMapping("/owner/decisions")
+    public ResponseEntity<byte[]> decideBookings(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                 @RequestBody BookingDecisionsDto decisions) {
+        if (decisions.getMode() == null) {
+            throw new ValidationException("Decision mode is required");
+        }
+        requireBatch(decisions.getMode() == BookingDecisionMode.EXPLICIT
+                ? decisions.getDecisions()
+                : decisions.getItemIds());
+        return bookingClient.decideBookings(userId, decisions);
+    }
+
+    @GetMapping("/{bookingId}")
+    public ResponseEntity<byte[]> getBookingById(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                 @PathVariable Long bookingId) {
+        return bookingClient.getBookingById(userId, bookingId);
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> getAllBookingForBooker(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                         @RequestParam(defaultValue = "ALL") String state,
+                                                         @RequestParam(required = false, defaultValue = "0")
+                                                         @PositiveOrZero(message = "size and from have to positive")
+                                                         Integer from,
+                                                         @RequestParam(required = false, defaultValue = "10")
+                                                         @Positive(message = "size and from have to positive")
+                                                         Integer size,
+                                                         @RequestParam(required = false) String after) {
+        return bookingClient.getBookings(userId, BookingState.from(state), from, size, after);
+    }
+
+    @GetMapping("/owner")
+    public ResponseEntity<byte[]> getAllBookingForOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                        @RequestParam(defaultValue = "ALL") String state,
+                                                        @RequestParam(required = false, defaultValue = "0")
+                                                        @PositiveOrZero(message = "size and from have to positive")
+                                                        Integer from,
+                                                        @RequestParam(required = false, defaultValue = "10")
+                                                        @Positive(message = "size and from have to positive")
+                                                        Integer size,
+                                                        @RequestParam(required = false) String after) {
+        return bookingClient.getOwnerBookings(userId, BookingState.from(state), from, size, after);
+    }
+
+    private static void requireBatch(List<?> batch) {
+        if (batch == null || batch.isEmpty()) {
+            throw new ValidationException("Batch is empty");
+        }
+        if (batch.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException(String.format("Batch size can't exceed %s", MAX_BATCH_SIZE));
+        }
+    }
+}
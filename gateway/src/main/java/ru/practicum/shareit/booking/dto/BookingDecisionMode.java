@@ -0,0 +1,6 @@
+package ru.practicum.shareit.booking.dto;
+
+public enum BookingDecisionMode {
+    EXPLICIT,
+    APPROVE_MAX_NON_OVERLAPPING
+}
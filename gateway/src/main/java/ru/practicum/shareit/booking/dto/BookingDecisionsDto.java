@@ -0,0 +1,27 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingDecisionsDto {
+
+    @Builder.Default
+    private BookingDecisionMode mode = BookingDecisionMode.EXPLICIT;
+    private List<Decision> decisions;
+    private List<Long> itemIds;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Decision {
+        private Long bookingId;
+        private Boolean approved;
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.Future;
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingDto {
+
+    @NotNull(message = "itemId, start and end are required")
+    private Long itemId;
+    @NotNull(message = "itemId, start and end are required")
+    @FutureOrPresent(message = "Start in the past")
+    private LocalDateTime start;
+    @NotNull(message = "itemId, start and end are required")
+    @Future(message = "End in the past")
+    private LocalDateTime end;
+}
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Пересылает запросы на сервер и возвращает его ответ как есть: статус, тело без разбора и заголовки
+ * из FORWARDED_HEADERS. Ошибки сервера тоже возвращаются клиенту без изменений.
+ */
+public class BaseClient {
+
+    public static final String USER_HEADER = "X-Sharer-User-Id";
+
+    private static final List<String> FORWARDED_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, "X-Next-Cursor");
+
+    protected final RestTemplate rest;
+
+    public BaseClient(RestTemplate rest) {
+        this.rest = rest;
+    }
+
+    protected ResponseEntity<byte[]> get(String path, Long userId) {
+        return get(path, userId, Map.of());
+    }
+
+    protected ResponseEntity<byte[]> get(String path, Long userId, Map<String, Object> parameters) {
+        return send(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> ResponseEntity<byte[]> post(String path, Long userId, T body) {
+        return send(HttpMethod.POST, path, userId, Map.of(), body);
+    }
+
+    protected <T> ResponseEntity<byte[]> patch(String path, Long userId, T body) {
+        return patch(path, userId, Map.of(), body);
+    }
+
+    protected <T> ResponseEntity<byte[]> patch(String path, Long userId, Map<String, Object> parameters, T body) {
+        return send(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected ResponseEntity<byte[]> delete(String path, Long userId) {
+        return send(HttpMethod.DELETE, path, userId, Map.of(), null);
+    }
+
+    /*
+     * Тело ответа копируется клиенту по мере получения, не накапливаясь в памяти шлюза.
+     * Заголовки ответа к этому моменту уже отправлены, поэтому ошибка сервера обрывает поток.
+     */
+    protected StreamingResponseBody stream(String path, Long userId, MediaType mediaType) {
+        return outputStream -> rest.execute(path, HttpMethod.GET, request -> {
+            request.getHeaders().setAccept(List.of(mediaType));
+            if (userId != null) {
+                request.getHeaders().set(USER_HEADER, String.valueOf(userId));
+            }
+        }, response -> StreamUtils.copy(response.getBody(), outputStream));
+    }
+
+    /*
+     * Параметры со значением null в запрос не попадают: сервер отличает отсутствующий параметр от пустого.
+     */
+    private <T> ResponseEntity<byte[]> send(HttpMethod method, String path, Long userId,
+                                            Map<String, Object> parameters, T body) {
+        Map<String, Object> present = new LinkedHashMap<>();
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        parameters.forEach((name, value) -> {
+            if (value != null) {
+                present.put(name, value);
+                query.add(name + "={" + name + "}");
+            }
+        });
+        HttpEntity<T> request = new HttpEntity<>(body, defaultHeaders(userId));
+        try {
+            ResponseEntity<byte[]> response = rest.exchange(path + query, method, request, byte[].class, present);
+            return toGatewayResponse(response.getStatusCode(), response.getHeaders(), response.getBody());
+        } catch (HttpStatusCodeException e) {
+            return toGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+    }
+
+    private static HttpHeaders defaultHeaders(Long userId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set(USER_HEADER, String.valueOf(userId));
+        }
+        return headers;
+    }
+
+    private static ResponseEntity<byte[]> toGatewayResponse(HttpStatus status, HttpHeaders headers, byte[] body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (headers != null) {
+            for (String name : FORWARDED_HEADERS) {
+                List<String> values = headers.get(name);
+                if (values != null) {
+                    response.header(name, values.toArray(new String[0]));
+                }
+            }
+        }
+        return body == null || body.length == 0 ? response.build() : response.body(body);
+    }
+}
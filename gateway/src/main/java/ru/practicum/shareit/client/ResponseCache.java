@@ -0,0 +1,106 @@
+package ru.practicum.shareit.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Кэш успешных ответов сервера на GET-запросы с коротким временем жизни и вытеснением давно не использованных.
+ * Изменения, прошедшие через этот шлюз, сбрасывают кэш целиком; изменения через другие экземпляры шлюза
+ * становятся видны не позже чем через ttl-ms. Ответ, загруженный во время сброса, в кэш не кладется.
+ */
+@Component
+public class ResponseCache {
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, CachedResponse> entries;
+    private long invalidations;
+    private long hits;
+    private long misses;
+
+    @Autowired
+    public ResponseCache(@Value("${shareit-gateway.cache.ttl-ms}") long ttlMillis,
+                         @Value("${shareit-gateway.cache.max-size}") int maxSize) {
+        this(ttlMillis, maxSize, System::currentTimeMillis);
+    }
+
+    public ResponseCache(long ttlMillis, int maxSize, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return super.size() > ResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    public ResponseEntity<byte[]> get(String key, Supplier<ResponseEntity<byte[]>> loader) {
+        long stamp;
+        synchronized (this) {
+            CachedResponse cached = entries.get(key);
+            if (cached != null && cached.expiresAt > clock.getAsLong()) {
+                hits++;
+                return cached.response;
+            }
+            misses++;
+            stamp = invalidations;
+        }
+        ResponseEntity<byte[]> response = loader.get();
+        synchronized (this) {
+            if (ttlMillis > 0 && response.getStatusCode().is2xxSuccessful() && stamp == invalidations) {
+                entries.put(key, new CachedResponse(response, clock.getAsLong() + ttlMillis));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Сбрасывает кэш, если изменяющий запрос выполнен успешно, и возвращает его ответ.
+     */
+    public ResponseEntity<byte[]> evictOnSuccess(ResponseEntity<byte[]> response) {
+        if (response.getStatusCode().is2xxSuccessful()) {
+            clear();
+        }
+        return response;
+    }
+
+    public synchronized void clear() {
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, entries.size());
+    }
+
+    @AllArgsConstructor
+    private static final class CachedResponse {
+        private final ResponseEntity<byte[]> response;
+        private final long expiresAt;
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+    }
+}
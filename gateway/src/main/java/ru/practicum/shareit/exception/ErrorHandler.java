@@ -0,0 +1,58 @@
+package ru.practicum.shareit.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Ответы на ошибки валидации в том же формате, что и у сервера.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ErrorHandler {
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleValidateException(
+            final ValidationException e) {
+        log.info(e.getMessage());
+        return new ResponseEntity<>(Map.of("error",
+                e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleBindException(
+            final BindException e) {
+        String message = e.getFieldErrors().stream()
+                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+        log.info(message);
+        return new ResponseEntity<>(Map.of("error", message), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleConstraintViolationException(
+            final ConstraintViolationException e) {
+        String message = e.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+        log.info(message);
+        return new ResponseEntity<>(Map.of("error", message), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleResourceAccessException(
+            final ResourceAccessException e) {
+        log.error(e.getMessage());
+        return new ResponseEntity<>(Map.of("error", "Server is unavailable"),
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Карточки вещей, их свободные интервалы и поиск отдаются из ResponseCache. Карточка зависит от того,
+ * владелец ли запрашивает вещь, поэтому ключ карточки включает пользователя; поиск от пользователя не зависит.
+ */
+@Service
+public class ItemClient extends BaseClient {
+
+    private static final String API_PREFIX = "/items";
+
+    private final ResponseCache responseCache;
+
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory serverRequestFactory, ResponseCache responseCache) {
+        super(builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .requestFactory(() -> serverRequestFactory)
+                .build());
+        this.responseCache = responseCache;
+    }
+
+    public ResponseEntity<byte[]> createItem(long userId, ItemDto itemDto) {
+        return responseCache.evictOnSuccess(post("", userId, itemDto));
+    }
+
+    public ResponseEntity<byte[]> updateItem(long userId, long itemId, ItemDto itemDto) {
+        return responseCache.evictOnSuccess(patch("/" + itemId, userId, itemDto));
+    }
+
+    public ResponseEntity<byte[]> getItemById(long userId, long itemId) {
+        return responseCache.get("items/" + itemId + "?user=" + userId, () -> get("/" + itemId, userId));
+    }
+
+    public ResponseEntity<byte[]> getItemAvailability(long itemId, LocalDateTime start, LocalDateTime end) {
+        Map<String, Object> parameters = Map.of(
+                "start", start,
+                "end", end
+        );
+        return responseCache.get("items/" + itemId + "/availability?start=" + start + "&end=" + end,
+                () -> get("/" + itemId + "/availability", null, parameters));
+    }
+
+    public ResponseEntity<byte[]> retrieveAllItem(long userId) {
+        return get("", userId);
+    }
+
+    public ResponseEntity<byte[]> searchItemByKeyword(String text, int from, int size,
+                                                      LocalDateTime start, LocalDateTime end) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("text", text);
+        parameters.put("from", from);
+        parameters.put("size", size);
+        parameters.put("start", start);
+        parameters.put("end", end);
+        return responseCache.get("items/search?text=" + text + "&from=" + from + "&size=" + size
+                        + "&start=" + start + "&end=" + end,
+                () -> get("/search", null, parameters));
+    }
+
+    public ResponseEntity<byte[]> addComment(long userId, long itemId, CommentDto commentDto) {
+        return responseCache.evictOnSuccess(post("/" + itemId + "/comment", userId, commentDto));
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.validation.Create;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/items")
+@RequiredArgsConstructor
+@Validated
+public class ItemController {
+
+    private static final byte[] EMPTY_LIST = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final ItemClient itemClient;
+
+    @PostMapping
+    public ResponseEntity<byte[]> createItem(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                             @RequestBody @Validated(Create.class) ItemDto itemDto) {
+        return itemClient.createItem(userId, itemDto);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<byte[]> updateItem(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                             @RequestBody ItemDto itemDto, @PathVariable Long id) {
+        return itemClient.updateItem(userId, id, itemDto);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getItemById(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                              @PathVariable Long id) {
+        return itemClient.getItemById(userId, id);
+    }
+
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<byte[]> getItemAvailability(@PathVariable Long id,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                      LocalDateTime start,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                      LocalDateTime end) {
+        if (!end.isAfter(start)) {
+            throw new ValidationException("start and end are required and end has to be after start");
+        }
+        return itemClient.getItemAvailability(id, start, end);
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> retrieveAllItem(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        return itemClient.retrieveAllItem(userId);
+    }
+
+    /*
+     * Пустой запрос сервер не ищет, поэтому ответ на него формируется здесь.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<byte[]> searchItemByKeyword(@RequestParam(name = "text", defaultValue = "") String keyword,
+                                                      @RequestParam(required = false, defaultValue = "0")
+                                                      @PositiveOrZero(message = "size and from have to positive")
+                                                      Integer from,
+                                                      @RequestParam(required = false, defaultValue = "10")
+                                                      @Positive(message = "size and from have to positive")
+                                                      Integer size,
+                                                      @RequestParam(required = false)
+                                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                      LocalDateTime start,
+                                                      @RequestParam(required = false)
+                                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                      LocalDateTime end) {
+        if ((start == null) != (end == null) || (start != null && !end.isAfter(start))) {
+            throw new ValidationException("start and end have to be set together and end has to be after start");
+        }
+        if (keyword.isBlank()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(EMPTY_LIST);
+        }
+        return itemClient.searchItemByKeyword(keyword, from, size, start, end);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public ResponseEntity<byte[]> addComment(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                             @PathVariable Long itemId, @RequestBody @Valid CommentDto commentDto) {
+        return itemClient.addComment(userId, itemId, commentDto);
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.*;
+import ru.practicum.shareit.validation.Create;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemDto {
+
+    private Long id;
+    @NotBlank(groups = Create.class, message = "Название предмета не может быть пустым")
+    private String name;
+    @NotNull(groups = Create.class, message = "Описание не может быть пустым")
+    private String description;
+    @NotNull(groups = Create.class, message = "Статус доступа не может быть пустым")
+    private Boolean available;
+    private Long requestId;
+}
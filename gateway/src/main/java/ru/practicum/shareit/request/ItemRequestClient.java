@@ -0,0 +1,42 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.Map;
+
+@Service
+public class ItemRequestClient extends BaseClient {
+
+    private static final String API_PREFIX = "/requests";
+
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientHttpRequestFactory serverRequestFactory) {
+        super(builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .requestFactory(() -> serverRequestFactory)
+                .build());
+    }
+
+    public ResponseEntity<byte[]> createItemRequest(long userId, ItemRequestDto itemRequestDto) {
+        return post("", userId, itemRequestDto);
+    }
+
+    public ResponseEntity<byte[]> getAllMyItemRequest(long userId) {
+        return get("", userId);
+    }
+
+    public ResponseEntity<byte[]> getItemRequestById(long userId, long requestId) {
+        return get("/" + requestId, userId);
+    }
+
+    public ResponseEntity<byte[]> getAllRequestsForUser(long userId, int from, int size) {
+        return get("/all", userId, Map.of("from", from, "size", size));
+    }
+}
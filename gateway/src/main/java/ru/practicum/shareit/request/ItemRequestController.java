@@ -0,0 +1,48 @@
+package ru.practicum.shareit.request;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RestController
+@RequestMapping(path = "/requests")
+@RequiredArgsConstructor
+@Validated
+public class ItemRequestController {
+
+    private final ItemRequestClient itemRequestClient;
+
+    @PostMapping
+    public ResponseEntity<byte[]> createItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                    @RequestBody @Valid ItemRequestDto itemRequestDto) {
+        return itemRequestClient.createItemRequest(userId, itemRequestDto);
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> getAllMyItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        return itemRequestClient.getAllMyItemRequest(userId);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getItemRequestById(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                     @PathVariable Long id) {
+        return itemRequestClient.getItemRequestById(userId, id);
+    }
+
+    @GetMapping("/all")
+    public ResponseEntity<byte[]> getAllRequestsForUser(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                        @RequestParam(required = false, defaultValue = "0")
+                                                        @PositiveOrZero(message = "size and from have to positive")
+                                                        Integer from,
+                                                        @RequestParam(required = false, defaultValue = "10")
+                                                        @Positive(message = "size and from have to positive")
+                                                        Integer size) {
+        return itemRequestClient.getAllRequestsForUser(userId, from, size);
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemRequestDto {
+
+    @NotBlank(message = "Description has to be not empty")
+    private String description;
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class UserClient extends BaseClient {
+
+    private static final String API_PREFIX = "/users";
+
+    private final ResponseCache responseCache;
+
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory serverRequestFactory, ResponseCache responseCache) {
+        super(builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                .requestFactory(() -> serverRequestFactory)
+                .build());
+        this.responseCache = responseCache;
+    }
+
+    public ResponseEntity<byte[]> createUser(UserDto userDto) {
+        return post("", null, userDto);
+    }
+
+    public ResponseEntity<byte[]> updateUser(long userId, UserDto userDto) {
+        return responseCache.evictOnSuccess(patch("/" + userId, null, userDto));
+    }
+
+    public ResponseEntity<byte[]> getUserById(long userId) {
+        return get("/" + userId, null);
+    }
+
+    public ResponseEntity<byte[]> retrieveAllUsers(Integer from, Integer size, Long after) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+        parameters.put("after", after);
+        return get("", null, parameters);
+    }
+
+    public StreamingResponseBody streamAllUsers() {
+        return stream("/stream", null, MediaType.APPLICATION_NDJSON);
+    }
+
+    public ResponseEntity<byte[]> removeUserById(long userId) {
+        return responseCache.evictOnSuccess(delete("/" + userId, null));
+    }
+}
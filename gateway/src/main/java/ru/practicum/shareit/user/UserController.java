@@ -0,0 +1,63 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.validation.Create;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RestController
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+@Validated
+public class UserController {
+
+    private final UserClient userClient;
+
+    @PostMapping
+    public ResponseEntity<byte[]> createUser(@RequestBody @Validated(Create.class) UserDto userDto) {
+        return userClient.createUser(userDto);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<byte[]> updateUser(@RequestBody @Valid UserDto userDto, @PathVariable Long id) {
+        return userClient.updateUser(id, userDto);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getUserById(@PathVariable Long id) {
+        return userClient.getUserById(id);
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> retrieveAllUsers(@RequestParam(required = false)
+                                                   @PositiveOrZero(message = "size and from have to positive")
+                                                   Integer from,
+                                                   @RequestParam(required = false)
+                                                   @Positive(message = "size and from have to positive")
+                                                   Integer size,
+                                                   @RequestParam(required = false)
+                                                   @PositiveOrZero(message = "after have to positive")
+                                                   Long after) {
+        return userClient.retrieveAllUsers(from, size, after);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(userClient.streamAllUsers());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<byte[]> removeUserById(@PathVariable Long id) {
+        return userClient.removeUserById(id);
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.user.dto;
+
+import lombok.*;
+import ru.practicum.shareit.validation.Create;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
+import javax.validation.groups.Default;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserDto {
+
+    private Long id;
+    private String name;
+    @NotBlank(groups = Create.class, message = "Email not found")
+    @Email(groups = {Create.class, Default.class})
+    private String email;
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.validation;
+
+/**
+ * Группа проверок, которые выполняются только при создании сущности.
+ */
+public interface Create {
+}
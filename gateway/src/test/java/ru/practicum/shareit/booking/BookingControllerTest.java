@@ -0,0 +1,140 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingDecisionMode;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BookingController.class)
+class BookingControllerTest {
+
+    @MockBean
+    private BookingClient bookingClient;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private final BookingDto bookingDto = new BookingDto(1L, LocalDateTime.now().plusDays(1),
+            LocalDateTime.now().plusDays(2));
+
+    @Test
+    void createBookingTest() throws Exception {
+        when(bookingClient.createBooking(anyLong(), any()))
+                .thenReturn(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        mockMvc.perform(post("/bookings")
+                        .content(mapper.writeValueAsString(bookingDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 2L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)));
+
+        verify(bookingClient, times(1)).createBooking(anyLong(), any());
+    }
+
+    @Test
+    void createBookingInPastTest() throws Exception {
+        bookingDto.setStart(LocalDateTime.now().minusDays(1));
+
+        mockMvc.perform(post("/bookings")
+                        .content(mapper.writeValueAsString(bookingDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 2L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("start Start in the past")));
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void createBookingWithEndBeforeStartTest() throws Exception {
+        bookingDto.setStart(LocalDateTime.now().plusDays(3));
+
+        mockMvc.perform(post("/bookings")
+                        .content(mapper.writeValueAsString(bookingDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 2L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Start after end")));
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getBookingsWithUnknownStateTest() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .param("state", "UNSUPPORTED_STATUS")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Unknown state: UNSUPPORTED_STATUS")));
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getOwnerBookingsWithNegativeFromTest() throws Exception {
+        mockMvc.perform(get("/bookings/owner")
+                        .param("from", "-1")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("size and from have to positive")));
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getOwnerBookingsTest() throws Exception {
+        when(bookingClient.getOwnerBookings(1L, BookingState.PAST, 0, 10, null))
+                .thenReturn(ResponseEntity.ok()
+                        .header("X-Next-Cursor", "cursor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("[]".getBytes(StandardCharsets.UTF_8)));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .param("state", "PAST")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "cursor"));
+    }
+
+    @Test
+    void decideBookingsWithEmptyBatchTest() throws Exception {
+        BookingDecisionsDto decisions = BookingDecisionsDto.builder()
+                .mode(BookingDecisionMode.APPROVE_MAX_NON_OVERLAPPING)
+                .decisions(List.of(new BookingDecisionsDto.Decision(1L, true)))
+                .build();
+
+        mockMvc.perform(patch("/bookings/owner/decisions")
+                        .content(mapper.writeValueAsString(decisions))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Batch is empty")));
+
+        verifyNoInteractions(bookingClient);
+    }
+}
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.item.ItemClient;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class BaseClientTest {
+
+    private static final String SERVER_URL = "http://localhost:9090";
+
+    private final ResponseCache responseCache = new ResponseCache(60_000, 100, System::currentTimeMillis);
+
+    private ItemClient itemClient;
+    private BookingClient bookingClient;
+    private MockRestServiceServer itemServer;
+    private MockRestServiceServer bookingServer;
+
+    @BeforeEach
+    void beforeEach() {
+        itemClient = new ItemClient(SERVER_URL, new RestTemplateBuilder(), new SimpleClientHttpRequestFactory(),
+                responseCache);
+        bookingClient = new BookingClient(SERVER_URL, new RestTemplateBuilder(), new SimpleClientHttpRequestFactory(),
+                responseCache);
+        itemServer = MockRestServiceServer.bindTo(itemClient.rest).build();
+        bookingServer = MockRestServiceServer.bindTo(bookingClient.rest).build();
+    }
+
+    @Test
+    void itemViewIsCachedUntilBookingIsCreatedTest() {
+        itemServer.expect(once(), requestTo(SERVER_URL + "/items/1"))
+                .andExpect(header(BaseClient.USER_HEADER, "2"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+
+        assertEquals("{\"id\":1}", body(itemClient.getItemById(2L, 1L)));
+        assertEquals("{\"id\":1}", body(itemClient.getItemById(2L, 1L)));
+        itemServer.verify();
+
+        bookingServer.expect(once(), requestTo(SERVER_URL + "/bookings"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{\"id\":5}", MediaType.APPLICATION_JSON));
+        bookingClient.createBooking(2L, null);
+
+        itemServer.reset();
+        itemServer.expect(once(), requestTo(SERVER_URL + "/items/1"))
+                .andRespond(withSuccess("{\"id\":1,\"name\":\"fresh\"}", MediaType.APPLICATION_JSON));
+        assertEquals("{\"id\":1,\"name\":\"fresh\"}", body(itemClient.getItemById(2L, 1L)));
+        itemServer.verify();
+    }
+
+    @Test
+    void serverErrorIsReturnedAsIsTest() {
+        itemServer.expect(requestTo(SERVER_URL + "/items/search?text=tent&from=0&size=10"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"not found\"}"));
+
+        ResponseEntity<byte[]> response = itemClient.searchItemByKeyword("tent", 0, 10, null, null);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("{\"error\":\"not found\"}", body(response));
+        itemServer.verify();
+    }
+
+    @Test
+    void nextCursorHeaderIsForwardedTest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "cursor");
+        headers.set("X-Internal", "value");
+        bookingServer.expect(requestTo(SERVER_URL + "/bookings/owner?state=ALL&from=0&size=10&after=token"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(headers));
+
+        ResponseEntity<byte[]> response = bookingClient.getOwnerBookings(1L, BookingState.ALL, 0, 10, "token");
+
+        assertEquals("cursor", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertEquals(null, response.getHeaders().getFirst("X-Internal"));
+        bookingServer.verify();
+    }
+
+    private static String body(ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+}
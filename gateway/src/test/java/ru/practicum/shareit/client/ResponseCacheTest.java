@@ -0,0 +1,66 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ResponseCache cache = new ResponseCache(1000, 2, now::get);
+
+    @Test
+    void expiresAfterTtlTest() {
+        ResponseEntity<byte[]> first = ResponseEntity.ok(new byte[]{1});
+        ResponseEntity<byte[]> second = ResponseEntity.ok(new byte[]{2});
+
+        assertSame(first, cache.get("key", () -> first));
+        now.addAndGet(999);
+        assertSame(first, cache.get("key", () -> second));
+        now.addAndGet(1);
+        assertSame(second, cache.get("key", () -> second));
+
+        ResponseCache.Stats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+    }
+
+    @Test
+    void doesNotCacheErrorsTest() {
+        ResponseEntity<byte[]> notFound = ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        ResponseEntity<byte[]> found = ResponseEntity.ok(new byte[]{1});
+
+        assertSame(notFound, cache.get("key", () -> notFound));
+        assertSame(found, cache.get("key", () -> found));
+    }
+
+    @Test
+    void evictOnSuccessTest() {
+        ResponseEntity<byte[]> first = ResponseEntity.ok(new byte[]{1});
+        ResponseEntity<byte[]> second = ResponseEntity.ok(new byte[]{2});
+        cache.get("key", () -> first);
+
+        cache.evictOnSuccess(ResponseEntity.badRequest().build());
+        assertSame(first, cache.get("key", () -> second));
+
+        cache.evictOnSuccess(ResponseEntity.ok().build());
+        assertSame(second, cache.get("key", () -> second));
+    }
+
+    @Test
+    void doesNotCacheResponseLoadedDuringClearTest() {
+        ResponseEntity<byte[]> stale = ResponseEntity.ok(new byte[]{1});
+        ResponseEntity<byte[]> fresh = ResponseEntity.ok(new byte[]{2});
+        cache.get("key", () -> {
+            cache.clear();
+            return stale;
+        });
+
+        assertSame(fresh, cache.get("key", () -> fresh));
+    }
+}
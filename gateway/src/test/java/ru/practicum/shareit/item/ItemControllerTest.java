@@ -0,0 +1,101 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ItemController.class)
+class ItemControllerTest {
+
+    @MockBean
+    private ItemClient itemClient;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    void createItemWithoutAvailableTest() throws Exception {
+        ItemDto itemDto = new ItemDto(null, "item1", "description1", null, null);
+
+        mockMvc.perform(post("/items")
+                        .content(mapper.writeValueAsString(itemDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("available Статус доступа не может быть пустым")));
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void addBlankCommentTest() throws Exception {
+        CommentDto commentDto = new CommentDto(null, " ", null, null);
+
+        mockMvc.perform(post("/items/{id}/comment", 1L)
+                        .content(mapper.writeValueAsString(commentDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("text Empty comment is prohibited")));
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void searchByBlankTextTest() throws Exception {
+        mockMvc.perform(get("/items/search").param("text", " "))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void searchWithoutPagingTest() throws Exception {
+        mockMvc.perform(get("/items/search").param("text", "tent"))
+                .andExpect(status().isOk());
+
+        verify(itemClient).searchItemByKeyword("tent", 0, 10, null, null);
+    }
+
+    @Test
+    void searchWithStartOnlyTest() throws Exception {
+        mockMvc.perform(get("/items/search")
+                        .param("text", "tent")
+                        .param("start", LocalDateTime.now().toString()))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void searchWithNegativeSizeTest() throws Exception {
+        mockMvc.perform(get("/items/search")
+                        .param("text", "tent")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("size and from have to positive")));
+
+        verifyNoInteractions(itemClient);
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserController.class)
+class UserControllerTest {
+
+    @MockBean
+    private UserClient userClient;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    void createUserWithoutEmailTest() throws Exception {
+        mockMvc.perform(post("/users")
+                        .content(mapper.writeValueAsString(new UserDto(null, "user1", null)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("email Email not found")));
+
+        verifyNoInteractions(userClient);
+    }
+
+    @Test
+    void updateUserWithInvalidEmailTest() throws Exception {
+        mockMvc.perform(patch("/users/{id}", 1L)
+                        .content(mapper.writeValueAsString(new UserDto(null, null, "not-an-email")))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userClient);
+    }
+
+    @Test
+    void retrieveUsersWithNegativeFromTest() throws Exception {
+        mockMvc.perform(get("/users?from=-1&size=10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("size and from have to positive")));
+
+        verifyNoInteractions(userClient);
+    }
+}
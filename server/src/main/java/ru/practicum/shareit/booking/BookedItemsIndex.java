@@ -0,0 +1,165 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.util.CompressedBitmap;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Индекс занятых вещей по календарным дням: для каждого дня хранится сжатое множество ID вещей,
+ * у которых есть APPROVED бронирование, пересекающее этот день, и отдельно интервалы этих бронирований по вещам.
+ * Вещь из множества внутреннего дня окна заведомо занята, вещь вне множеств всех дней окна заведомо свободна;
+ * интервалы проверяются только для вещей, занятых в первый или последний день окна.
+ * Изменения применяются после фиксации транзакции, так что поиск видит только подтвержденные бронирования.
+ * ID вещей должны помещаться в int.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookedItemsIndex {
+
+    private final BookingRepository bookingRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Long, CompressedBitmap> itemsByDay = new TreeMap<>();
+    private final Map<Long, BookingIntervalIndex.ItemIntervals> intervalsByItem = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        List<BookingIntervalView> bookings = bookingRepository.findIntervalsByStatusIn(List.of(BookingStatus.APPROVED));
+        lock.writeLock().lock();
+        try {
+            itemsByDay.clear();
+            intervalsByItem.clear();
+            for (BookingIntervalView booking : bookings) {
+                add(booking.getId(), booking.getItemId(), booking.getStartDate(), booking.getEndDate());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Booked items index is built with {} approved bookings", bookings.size());
+    }
+
+    /**
+     * Вызывается при смене статуса бронирования; индекс обновляется после фиксации транзакции.
+     */
+    public void update(Booking booking) {
+        long bookingId = booking.getId();
+        long itemId = booking.getItem().getId();
+        LocalDateTime start = booking.getStart();
+        LocalDateTime end = booking.getEnd();
+        boolean approved = booking.getStatus() == BookingStatus.APPROVED;
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (approved) {
+                    add(bookingId, itemId, start, end);
+                } else {
+                    remove(bookingId, itemId, start, end);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Фильтр вещей без APPROVED бронирований, пересекающих [start, end).
+     * Множества дней окна объединяются один раз, дальше проверка вещи - поиск в двух множествах.
+     */
+    public LongPredicate freeBetween(LocalDateTime start, LocalDateTime end) {
+        long firstDay = start.toLocalDate().toEpochDay();
+        long lastDay = lastDay(end);
+        CompressedBitmap inner = new CompressedBitmap();
+        CompressedBitmap boundary = new CompressedBitmap();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Long, CompressedBitmap> day : itemsByDay.subMap(firstDay, true, lastDay, true).entrySet()) {
+                if (day.getKey() == firstDay || day.getKey() == lastDay) {
+                    boundary.or(day.getValue());
+                } else {
+                    inner.or(day.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        long startMillis = toMillis(start);
+        long endMillis = toMillis(end);
+        return itemId -> {
+            int value = Math.toIntExact(itemId);
+            if (inner.contains(value)) {
+                return false;
+            }
+            if (!boundary.contains(value)) {
+                return true;
+            }
+            BookingIntervalIndex.ItemIntervals itemIntervals = intervalsByItem.get(itemId);
+            return itemIntervals == null || !itemIntervals.overlaps(startMillis, endMillis);
+        };
+    }
+
+    private void add(long bookingId, long itemId, LocalDateTime start, LocalDateTime end) {
+        if (!end.isAfter(start)) {
+            return;
+        }
+        BookingIntervalIndex.ItemIntervals intervals = intervalsByItem.computeIfAbsent(itemId,
+                id -> new BookingIntervalIndex.ItemIntervals());
+        if (!intervals.add(bookingId, toMillis(start), toMillis(end))) {
+            return;
+        }
+        int value = Math.toIntExact(itemId);
+        for (long day = start.toLocalDate().toEpochDay(); day <= lastDay(end); day++) {
+            itemsByDay.computeIfAbsent(day, key -> new CompressedBitmap()).add(value);
+        }
+    }
+
+    /*
+     * День освобождается, только если его не пересекает ни одно другое подтвержденное бронирование вещи.
+     */
+    private void remove(long bookingId, long itemId, LocalDateTime start, LocalDateTime end) {
+        BookingIntervalIndex.ItemIntervals intervals = intervalsByItem.get(itemId);
+        if (intervals == null || !intervals.remove(bookingId)) {
+            return;
+        }
+        int value = Math.toIntExact(itemId);
+        for (long day = start.toLocalDate().toEpochDay(); day <= lastDay(end); day++) {
+            LocalDateTime dayStart = LocalDate.ofEpochDay(day).atStartOfDay();
+            CompressedBitmap items = itemsByDay.get(day);
+            if (items != null && !intervals.overlaps(toMillis(dayStart), toMillis(dayStart.plusDays(1)))) {
+                items.remove(value);
+                if (items.isEmpty()) {
+                    itemsByDay.remove(day);
+                }
+            }
+        }
+    }
+
+    /*
+     * Последний день, который пересекает полуинтервал с концом end.
+     */
+    private static long lastDay(LocalDateTime end) {
+        return end.minusNanos(1).toLocalDate().toEpochDay();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,142 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.ItemViewCache;
+import ru.practicum.shareit.util.HashedTimerWheel;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Переводит в EXPIRED бронирования, которые остались в WAITING к моменту начала.
+ * Сроки хранятся в колесе таймеров: при старте оно заполняется всеми WAITING из БД,
+ * дальше его пополняет создание бронирований, поэтому периодический проход по таблице не нужен.
+ * Обновление выполняется пачками по chunkSize ID с условием status = WAITING, так что бронирование,
+ * подтвержденное или отклоненное до начала, не меняется, и отдельно снимать его таймер не требуется.
+ * Если в пачке ничего не обновилось, интервалы не перечитываются: такой таймер стоит один UPDATE.
+ */
+@Slf4j
+@Component
+public class BookingExpiryScheduler {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final BookingRepository bookingRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final ItemViewCache itemViewCache;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final HashedTimerWheel wheel;
+
+    public BookingExpiryScheduler(BookingRepository bookingRepository,
+                                  BookingIntervalIndex bookingIntervalIndex,
+                                  ItemViewCache itemViewCache,
+                                  @Value("${shareit.booking-expiry.enabled:true}") boolean enabled,
+                                  @Value("${shareit.booking-expiry.tick-ms:1000}") long tickMillis,
+                                  @Value("${shareit.booking-expiry.chunk-size:500}") int chunkSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingIntervalIndex = bookingIntervalIndex;
+        this.itemViewCache = itemViewCache;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.wheel = new HashedTimerWheel(tickMillis, WHEEL_SIZE, toMillis(LocalDateTime.now()));
+    }
+
+    @PostConstruct
+    public void load() {
+        List<BookingIntervalView> bookings = bookingRepository.findIntervalsByStatusIn(List.of(BookingStatus.WAITING));
+        synchronized (wheel) {
+            for (BookingIntervalView booking : bookings) {
+                wheel.schedule(booking.getId(), toMillis(booking.getStartDate()));
+            }
+        }
+        log.info("Booking expiry wheel is loaded with {} waiting bookings", bookings.size());
+    }
+
+    /**
+     * Вызывается при создании бронирования; таймер ставится после фиксации транзакции.
+     */
+    public void schedule(Booking booking) {
+        long bookingId = booking.getId();
+        long deadline = toMillis(booking.getStart());
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (wheel) {
+                wheel.schedule(bookingId, deadline);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking-expiry.tick-ms:1000}")
+    public void tick() {
+        if (enabled) {
+            expire(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Переводит в EXPIRED бронирования, срок которых наступил к now.
+     * @return число бронирований, у которых сменился статус
+     */
+    public int expire(LocalDateTime now) {
+        long[] due;
+        synchronized (wheel) {
+            due = wheel.advance(toMillis(now));
+        }
+        int expired = 0;
+        for (int from = 0; from < due.length; from += chunkSize) {
+            List<Long> ids = Arrays.stream(due, from, Math.min(from + chunkSize, due.length))
+                    .boxed()
+                    .collect(Collectors.toList());
+            int updated;
+            try {
+                updated = bookingRepository.updateStatusByIdIn(ids, BookingStatus.WAITING, BookingStatus.EXPIRED);
+            } catch (RuntimeException e) {
+                log.error("Failed to expire waiting bookings, {} are rescheduled", due.length - from, e);
+                reschedule(Arrays.copyOfRange(due, from, due.length), now);
+                break;
+            }
+            if (updated == 0) {
+                continue;
+            }
+            expired += updated;
+            for (BookingIntervalView booking : bookingRepository.findIntervalsByIdInAndStatus(ids, BookingStatus.EXPIRED)) {
+                bookingIntervalIndex.remove(booking.getItemId(), booking.getId());
+                itemViewCache.evictBookings(booking.getItemId());
+            }
+        }
+        if (expired > 0) {
+            log.info("{} waiting bookings are expired", expired);
+        }
+        return expired;
+    }
+
+    public int scheduled() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private void reschedule(long[] ids, LocalDateTime now) {
+        long deadline = toMillis(now);
+        synchronized (wheel) {
+            for (long id : ids) {
+                wheel.schedule(id, deadline);
+            }
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,278 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Индекс интервалов активных (WAITING и APPROVED) бронирований по каждой вещи.
+ * Интервалы хранятся в отсортированных по началу массивах long, поэтому проверка пересечения
+ * выполняется бинарным поиском за O(log n) и без аллокаций.
+ * Индекс обновляется при каждом создании бронирования и смене его статуса, поэтому свободные интервалы
+ * вещи тоже вычисляются по нему, без запросов к БД.
+ * Закончившиеся интервалы для проверки новых бронирований не нужны: они не попадают в индекс при перестроении
+ * и периодически вычищаются {@link #pruneEndedBefore}, поэтому размер индекса ограничен текущими и будущими
+ * бронированиями, а свободные интервалы в прошлом не отражают прошедших бронирований.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, ItemIntervals> intervalsByItem = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        intervalsByItem.clear();
+        LocalDateTime now = LocalDateTime.now();
+        int count = 0;
+        for (BookingIntervalView interval : bookingRepository.findIntervalsByStatusIn(ACTIVE_STATUSES)) {
+            if (interval.getEndDate().isAfter(now)) {
+                add(interval.getId(), interval.getItemId(), interval.getStartDate(), interval.getEndDate());
+                count++;
+            }
+        }
+        log.info("Booking interval index is built with {} bookings", count);
+    }
+
+    /**
+     * Удаляет интервалы, закончившиеся не позже now, и опустевшие записи вещей.
+     * Запись удаляется внутри compute, поэтому параллельный add не может попасть в уже выброшенный объект.
+     *
+     * @return число удаленных интервалов
+     */
+    public int pruneEndedBefore(LocalDateTime now) {
+        long millis = toMillis(now);
+        int[] pruned = new int[1];
+        for (Long itemId : intervalsByItem.keySet()) {
+            intervalsByItem.computeIfPresent(itemId, (id, intervals) -> {
+                pruned[0] += intervals.removeEndedBefore(millis);
+                return intervals.isEmpty() ? null : intervals;
+            });
+        }
+        if (pruned[0] > 0) {
+            log.debug("{} ended bookings are pruned from the interval index", pruned[0]);
+        }
+        return pruned[0];
+    }
+
+    public boolean overlaps(long itemId, LocalDateTime start, LocalDateTime end) {
+        ItemIntervals intervals = intervalsByItem.get(itemId);
+        return intervals != null && intervals.overlaps(toMillis(start), toMillis(end));
+    }
+
+    /**
+     * Свободные интервалы вещи внутри [start, end) в порядке времени; время округляется до миллисекунд.
+     */
+    public List<ItemAvailabilityDto.Interval> freeIntervals(long itemId, LocalDateTime start, LocalDateTime end) {
+        ItemIntervals intervals = intervalsByItem.get(itemId);
+        long[] bounds = intervals == null
+                ? new long[]{toMillis(start), toMillis(end)}
+                : intervals.freeIntervals(toMillis(start), toMillis(end));
+        List<ItemAvailabilityDto.Interval> free = new ArrayList<>(bounds.length / 2);
+        for (int i = 0; i < bounds.length; i += 2) {
+            free.add(new ItemAvailabilityDto.Interval(toDateTime(bounds[i]), toDateTime(bounds[i + 1])));
+        }
+        return free;
+    }
+
+    public boolean add(Booking booking) {
+        return add(booking.getId(), booking.getItem().getId(), booking.getStart(), booking.getEnd());
+    }
+
+    public boolean remove(Booking booking) {
+        return remove(booking.getItem().getId(), booking.getId());
+    }
+
+    public boolean remove(long itemId, long bookingId) {
+        ItemIntervals intervals = intervalsByItem.get(itemId);
+        return intervals != null && intervals.remove(bookingId);
+    }
+
+    private boolean add(long bookingId, long itemId, LocalDateTime start, LocalDateTime end) {
+        boolean[] added = new boolean[1];
+        intervalsByItem.compute(itemId, (id, intervals) -> {
+            ItemIntervals itemIntervals = intervals == null ? new ItemIntervals() : intervals;
+            added[0] = itemIntervals.add(bookingId, toMillis(start), toMillis(end));
+            return itemIntervals;
+        });
+        return added[0];
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    /**
+     * Интервалы одной вещи. maxEnds[i] хранит максимальный конец среди интервалов 0..i,
+     * что позволяет ответить на вопрос о пересечении одним бинарным поиском.
+     */
+    static final class ItemIntervals {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private long[] starts = new long[INITIAL_CAPACITY];
+        private long[] ends = new long[INITIAL_CAPACITY];
+        private long[] maxEnds = new long[INITIAL_CAPACITY];
+        private int size;
+
+        synchronized boolean overlaps(long start, long end) {
+            int candidates = countStartsBefore(end);
+            return candidates > 0 && maxEnds[candidates - 1] > start;
+        }
+
+        /**
+         * Границы свободных интервалов внутри [start, end) парами (начало, конец). Интервалы до первого,
+         * у которого maxEnds превышает start, закончились раньше окна, поэтому проход начинается с него
+         * и идет только по интервалам, начавшимся до конца окна.
+         */
+        synchronized long[] freeIntervals(long start, long end) {
+            long[] bounds = new long[8];
+            int count = 0;
+            long cursor = start;
+            for (int i = countMaxEndsNotAfter(start); i < size && starts[i] < end; i++) {
+                if (starts[i] > cursor) {
+                    if (count == bounds.length) {
+                        bounds = Arrays.copyOf(bounds, count * 2);
+                    }
+                    bounds[count++] = cursor;
+                    bounds[count++] = starts[i];
+                }
+                cursor = Math.max(cursor, ends[i]);
+            }
+            if (cursor < end) {
+                if (count == bounds.length) {
+                    bounds = Arrays.copyOf(bounds, count + 2);
+                }
+                bounds[count++] = cursor;
+                bounds[count++] = end;
+            }
+            return Arrays.copyOf(bounds, count);
+        }
+
+        synchronized boolean add(long id, long start, long end) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return false;
+                }
+            }
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                maxEnds = Arrays.copyOf(maxEnds, capacity);
+            }
+            int position = countStartsBefore(start);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(starts, position, starts, position + 1, size - position);
+            System.arraycopy(ends, position, ends, position + 1, size - position);
+            ids[position] = id;
+            starts[position] = start;
+            ends[position] = end;
+            size++;
+            recalculateMaxEnds(position);
+            return true;
+        }
+
+        synchronized boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                    System.arraycopy(starts, i + 1, starts, i, size - i - 1);
+                    System.arraycopy(ends, i + 1, ends, i, size - i - 1);
+                    size--;
+                    recalculateMaxEnds(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Сжимает массивы, оставляя интервалы с концом позже value; порядок по началу сохраняется.
+         *
+         * @return число удаленных интервалов
+         */
+        synchronized int removeEndedBefore(long value) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (ends[i] > value) {
+                    ids[kept] = ids[i];
+                    starts[kept] = starts[i];
+                    ends[kept] = ends[i];
+                    kept++;
+                }
+            }
+            int removed = size - kept;
+            if (removed > 0) {
+                size = kept;
+                recalculateMaxEnds(0);
+            }
+            return removed;
+        }
+
+        synchronized boolean isEmpty() {
+            return size == 0;
+        }
+
+        private int countStartsBefore(long value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (starts[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int countMaxEndsNotAfter(long value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (maxEnds[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private void recalculateMaxEnds(int from) {
+            long max = from == 0 ? Long.MIN_VALUE : maxEnds[from - 1];
+            for (int i = from; i < size; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.BookingPhase;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Продвигает сохраненную фазу бронирований. Каждый UPDATE отбирает строки по индексу (phase, дата)
+ * и затрагивает только бронирования, пересекшие границу после предыдущего тика.
+ * Сначала закончившиеся переводятся в PAST, затем оставшиеся начавшиеся в CURRENT,
+ * поэтому короткое бронирование, начавшееся и закончившееся между тиками, сразу получает PAST.
+ * Тем же тиком из {@link BookingIntervalIndex} вычищаются закончившиеся интервалы.
+ */
+@Slf4j
+@Component
+public class BookingPhaseScheduler {
+
+    private static final List<BookingPhase> NOT_PAST = List.of(BookingPhase.FUTURE, BookingPhase.CURRENT);
+
+    private final BookingRepository bookingRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final boolean enabled;
+
+    public BookingPhaseScheduler(BookingRepository bookingRepository, BookingIntervalIndex bookingIntervalIndex,
+                                 @Value("${shareit.booking-phase.enabled:true}") boolean enabled) {
+        this.bookingRepository = bookingRepository;
+        this.bookingIntervalIndex = bookingIntervalIndex;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking-phase.tick-ms:60000}")
+    public void tick() {
+        if (enabled) {
+            advance(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * @return число бронирований, у которых сменилась фаза
+     */
+    public int advance(LocalDateTime now) {
+        int ended = bookingRepository.updatePhaseToPast(NOT_PAST, now);
+        bookingIntervalIndex.pruneEndedBefore(now);
+        int started = bookingRepository.updatePhaseToCurrent(now);
+        if (ended + started > 0) {
+            log.debug("Booking phases are advanced: {} started, {} ended", started, ended);
+        }
+        return ended + started;
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.util.List;
+
+public interface BookingQueryRepository {
+
+    /**
+     * Метод выборки бронирований сразу в BookingDto, без загрузки сущностей
+     * @param specification условие выборки, см. BookingSpecifications
+     * @param pageable смещение и размер страницы, сортировка всегда (start DESC, id DESC)
+     * @return страница бронирований
+     */
+    List<BookingDto> findBookings(Specification<Booking> specification, Pageable pageable);
+}
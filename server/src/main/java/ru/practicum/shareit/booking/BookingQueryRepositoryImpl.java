@@ -0,0 +1,53 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+/**
+ * Один SQL-запрос на вызов: выбираются только колонки BookingDto, соединение с items одно
+ * и для условия по владельцу, и для названия вещи; ID арендатора берется из внешнего ключа booking.
+ */
+@RequiredArgsConstructor
+public class BookingQueryRepositoryImpl implements BookingQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookingDto> findBookings(Specification<Booking> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingDto> query = cb.createQuery(BookingDto.class);
+        Root<Booking> booking = query.from(Booking.class);
+        Predicate predicate = specification.toPredicate(booking, query, cb);
+        Join<Booking, Item> item = BookingSpecifications.item(booking);
+
+        query.select(cb.construct(BookingDto.class,
+                booking.get("id"),
+                booking.get("start"),
+                booking.get("end"),
+                item.get("id"),
+                item.get("name"),
+                booking.get("booker").get("id"),
+                booking.get("status")));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(booking.get("start")), cb.desc(booking.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+}
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingPhase;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingQueryRepository {
+
+    /*
+     * Фильтры по связанным сущностям записаны явно через b.booker.id / b.item.id: производные запросы
+     * вида findByItem_Id строят LEFT JOIN и условие по присоединенной таблице, из-за чего индексы
+     * booking не используются. Планы проверяет QueryPlanTest.
+     * Списки бронирований по состоянию строит BookingQueryRepository.
+     */
+
+    /**
+     * Бронирование вместе с вещью: при просмотре и подтверждении нужны название вещи и ID ее владельца.
+     */
+    @EntityGraph("Booking.item")
+    Optional<Booking> findWithItemById(Long id);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.booker.id = :userId")
+    List<Long> findIdsByBookerId(@Param("userId") long userId, Pageable pageable);
+
+    @Query("SELECT b.id FROM Booking b JOIN b.item i WHERE i.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") long ownerId, Pageable pageable);
+
+    /**
+     * Есть ли у пользователя хотя бы одно бронирование: выбирается один ID без загрузки сущностей.
+     */
+    default boolean existsByBookerId(long userId) {
+        return !findIdsByBookerId(userId, PageRequest.of(0, 1)).isEmpty();
+    }
+
+    /**
+     * Есть ли хотя бы одно бронирование вещей владельца: выбирается один ID без загрузки сущностей.
+     */
+    default boolean existsByOwnerId(long ownerId) {
+        return !findIdsByOwnerId(ownerId, PageRequest.of(0, 1)).isEmpty();
+    }
+
+    @Query("SELECT b FROM Booking b " +
+            "WHERE b.booker.id = :id AND b.end < :currentTime AND b.status = 'APPROVED' " +
+            "ORDER BY b.start DESC")
+    List<Booking> findByBookerIdStatePast(@Param("id") long id, @Param("currentTime") LocalDateTime currentTime);
+
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.booker.id AS bookerId, b.start AS startDate, " +
+            "b.end AS endDate FROM Booking b WHERE b.status IN :statuses")
+    List<BookingIntervalView> findIntervalsByStatusIn(@Param("statuses") Collection<BookingStatus> statuses);
+
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.booker.id AS bookerId, b.start AS startDate, " +
+            "b.end AS endDate FROM Booking b WHERE b.item.id = :itemId")
+    List<BookingIntervalView> findIntervalsByItemId(@Param("itemId") long itemId);
+
+    @Query("SELECT b.id AS id, b.item.id AS itemId, b.booker.id AS bookerId, b.start AS startDate, " +
+            "b.end AS endDate FROM Booking b WHERE b.id IN :ids AND b.status = :status")
+    List<BookingIntervalView> findIntervalsByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                           @Param("status") BookingStatus status);
+
+    @Query("SELECT b FROM Booking b WHERE b.item.id IN :itemIds AND b.status IN :statuses ORDER BY b.start")
+    List<Booking> findByItemIdInAndStatusIn(@Param("itemIds") Collection<Long> itemIds,
+                                            @Param("statuses") Collection<BookingStatus> statuses);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.item.id = :itemId AND b.id <> :bookingId AND b.status = 'APPROVED' " +
+            "AND b.start < :end AND b.end > :start")
+    List<Long> findApprovedOverlapping(@Param("itemId") long itemId, @Param("bookingId") long bookingId,
+                                       @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                                       Pageable pageable);
+
+    /**
+     * Есть ли у вещи другое подтвержденное бронирование, пересекающееся с интервалом.
+     */
+    default boolean existsApprovedOverlap(long itemId, long bookingId, LocalDateTime start, LocalDateTime end) {
+        return !findApprovedOverlapping(itemId, bookingId, start, end, PageRequest.of(0, 1)).isEmpty();
+    }
+
+    /**
+     * Меняет статус бронирований из списка одним UPDATE; строки в другом статусе не затрагиваются.
+     * Версия увеличивается, чтобы параллельное решение по тому же бронированию получило конфликт.
+     * @return число обновленных строк
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :to, b.version = b.version + 1 WHERE b.id IN :ids AND b.status = :from")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("from") BookingStatus from,
+                           @Param("to") BookingStatus to);
+
+    /**
+     * Переводит в PAST бронирования из списка фаз, закончившиеся до now.
+     * Отбираются только строки, еще не получившие PAST, то есть пересекшие границу после прошлого тика.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Booking b SET b.phase = ru.practicum.shareit.booking.model.BookingPhase.PAST " +
+            "WHERE b.phase IN :phases AND b.end < :now")
+    int updatePhaseToPast(@Param("phases") Collection<BookingPhase> phases, @Param("now") LocalDateTime now);
+
+    /**
+     * Переводит FUTURE в CURRENT для бронирований, начавшихся к now.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Booking b SET b.phase = ru.practicum.shareit.booking.model.BookingPhase.CURRENT " +
+            "WHERE b.phase = ru.practicum.shareit.booking.model.BookingPhase.FUTURE AND b.start <= :now")
+    int updatePhaseToCurrent(@Param("now") LocalDateTime now);
+
+    /**
+     * Последнее завершившееся и ближайшее будущее бронирование для каждой вещи из списка одним запросом.
+     * Для каждой вещи возвращается не более двух строк, признак lastBooking отличает одну от другой.
+     */
+    @Query(value = "SELECT t.id AS \"id\", t.item_id AS \"itemId\", t.user_id AS \"bookerId\", " +
+            "t.last_booking AS \"lastBooking\" FROM (" +
+            "SELECT b.id, b.item_id, b.user_id, b.end_date < :now AS last_booking, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.item_id, b.end_date < :now " +
+            "ORDER BY CASE WHEN b.end_date < :now THEN b.end_date END DESC, b.start_date ASC) AS rn " +
+            "FROM booking b WHERE b.item_id IN (:itemIds) AND (b.end_date < :now OR b.start_date > :now)) t " +
+            "WHERE t.rn = 1", nativeQuery = true)
+    List<ItemBookingView> findLastAndNextByItemIds(@Param("itemIds") Collection<Long> itemIds,
+                                                   @Param("now") LocalDateTime now);
+}
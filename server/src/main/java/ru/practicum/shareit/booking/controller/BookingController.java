@@ -0,0 +1,100 @@
+package ru.practicum.shareit.booking.controller;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.user.UserPrincipal;
+import ru.practicum.shareit.util.PagingHeaders;
+
+import javax.validation.Valid;
+import javax.websocket.server.PathParam;
+import java.util.List;
+
+
+@RestController
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+public class BookingController {
+
+    @Autowired
+    private final BookingService bookingService;
+
+    @PostMapping
+    public BookingDto createBooking(UserPrincipal user,
+                                    @RequestBody @Valid BookingDto bookingDto) {
+        return bookingService.createBooking(bookingDto, user);
+    }
+
+    @PostMapping("/batch")
+    public List<BookingBatchResult> createBookings(UserPrincipal user,
+                                                   @RequestBody List<BookingDto> bookingDtos) {
+        return bookingService.createBookings(bookingDtos, user);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public BookingDto updateBooking(UserPrincipal user,
+                                    @PathVariable Long bookingId, @PathParam("approved") @NonNull Boolean approved) {
+        return bookingService.updateBooking(bookingId, user, approved);
+    }
+
+    @PatchMapping("/owner/decisions")
+    public List<BookingBatchResult> decideBookings(UserPrincipal user,
+                                                   @RequestBody BookingDecisionsDto decisions) {
+        return bookingService.decideBookings(decisions, user);
+    }
+
+    @GetMapping("/{bookingId}")
+    public BookingDto getBookingById(UserPrincipal user, @PathVariable Long bookingId) {
+        return bookingService.getBookingById(bookingId, user);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<BookingDto>> getAllBookingForBooker(UserPrincipal user,
+                                                                   @PathParam("state") String state,
+                                                                   @RequestParam(required = false, defaultValue = "0") Integer from,
+                                                                   @RequestParam(required = false, defaultValue = "10") Integer size,
+                                                                   @RequestParam(required = false) String after) {
+        if (state == null) {
+            state = "ALL";
+        }
+        if (after != null) {
+            return withNextCursor(bookingService.getAllBookingByUserIdAfter(user, state, after, size), size);
+        }
+        return withNextCursor(bookingService.getAllBookingByUserId(user, state, from, size), size);
+    }
+
+    @GetMapping("/owner")
+    public ResponseEntity<List<BookingDto>> getAllBookingForOwner(UserPrincipal user,
+                                                                  @PathParam("state") String state,
+                                                                  @RequestParam(required = false, defaultValue = "0") Integer from,
+                                                                  @RequestParam(required = false, defaultValue = "10") Integer size,
+                                                                  @RequestParam(required = false) String after) {
+        if (state == null) {
+            state = "ALL";
+        }
+        if (after != null) {
+            return withNextCursor(bookingService.getAllBookingByOwnerIdAfter(user, state, after, size), size);
+        }
+        return withNextCursor(bookingService.getAllBookingByOwnerId(user, state, from, size), size);
+    }
+
+    private ResponseEntity<List<BookingDto>> withNextCursor(List<BookingDto> bookings, int size) {
+        if (bookings.isEmpty() || bookings.size() < size) {
+            return ResponseEntity.ok(bookings);
+        }
+        String nextCursor = BookingCursor.of(bookings.get(bookings.size() - 1)).encode();
+        return ResponseEntity.ok()
+                .header(PagingHeaders.NEXT_CURSOR, nextCursor)
+                .body(bookings);
+    }
+
+}
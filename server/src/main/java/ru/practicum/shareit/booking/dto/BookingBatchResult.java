@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.*;
+
+/**
+ * Результат обработки одного элемента пакетного бронирования или пакетного решения владельца:
+ * status - HTTP-код, который вернул бы одиночный POST /bookings или PATCH /bookings/{id},
+ * booking заполнен при успехе, error - при ошибке.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingBatchResult {
+
+    private int index;
+    private int status;
+    private BookingDto booking;
+    private String error;
+}
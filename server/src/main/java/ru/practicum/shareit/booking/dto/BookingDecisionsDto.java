@@ -0,0 +1,32 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.*;
+import ru.practicum.shareit.booking.model.BookingDecisionMode;
+
+import java.util.List;
+
+/**
+ * Тело PATCH /bookings/owner/decisions. В режиме EXPLICIT используются decisions,
+ * в режиме APPROVE_MAX_NON_OVERLAPPING - itemIds.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookingDecisionsDto {
+
+    @Builder.Default
+    private BookingDecisionMode mode = BookingDecisionMode.EXPLICIT;
+    private List<Decision> decisions;
+    private List<Long> itemIds;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Decision {
+        private Long bookingId;
+        private Boolean approved;
+    }
+}
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @AllArgsConstructor
+@NoArgsConstructor
 @Builder
 public class BookingDto {
 
@@ -20,6 +21,14 @@ public class BookingDto {
     private User booker;
     private BookingStatus status;
 
+    /**
+     * Конструктор для проекции в BookingQueryRepository.
+     */
+    public BookingDto(Long id, LocalDateTime start, LocalDateTime end, Long itemId, String itemName, Long bookerId,
+                      BookingStatus status) {
+        this(id, start, end, new Item(itemId, itemName), itemId, new User(bookerId), status);
+    }
+
     @Getter
     @Setter
     @AllArgsConstructor
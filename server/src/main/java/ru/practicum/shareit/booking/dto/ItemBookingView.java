@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.dto;
+
+public interface ItemBookingView {
+
+    Long getId();
+
+    Long getItemId();
+
+    Long getBookerId();
+
+    Boolean getLastBooking();
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking.model;
+
+/**
+ * Режим пакетного решения владельца: явные решения по списку бронирований или автоматический выбор
+ * наибольшего набора непересекающихся WAITING-бронирований каждой вещи.
+ */
+public enum BookingDecisionMode {
+    EXPLICIT,
+    APPROVE_MAX_NON_OVERLAPPING
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.booking.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Положение бронирования относительно текущего момента. Хранится в booking.phase и меняется
+ * только вперед: FUTURE -> CURRENT -> PAST, поэтому сохраненная фаза никогда не опережает фактическую.
+ */
+public enum BookingPhase {
+    FUTURE,
+    CURRENT,
+    PAST;
+
+    public static BookingPhase of(LocalDateTime start, LocalDateTime end, LocalDateTime now) {
+        if (end != null && end.isBefore(now)) {
+            return PAST;
+        }
+        if (start != null && !start.isAfter(now)) {
+            return CURRENT;
+        }
+        return FUTURE;
+    }
+}
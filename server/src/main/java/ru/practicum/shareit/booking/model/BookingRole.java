@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking.model;
+
+/**
+ * С чьей стороны запрашиваются бронирования: как арендатор или как владелец вещей.
+ */
+public enum BookingRole {
+    BOOKER,
+    OWNER
+}
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.booking.service;
+
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.user.UserPrincipal;
+
+import java.util.List;
+
+public interface BookingService {
+
+    /**
+     * Метод создания бронирования вещи
+     *
+     * @param bookingDto экземпляр сущности bookingDto, которая создается
+     * @param user       тот, кто бронирует
+     * @return экземпляр созданного бронирования
+     */
+    BookingDto createBooking(BookingDto bookingDto, UserPrincipal user);
+
+    /**
+     * Метод пакетного создания бронирований одним пользователем. Корректные элементы сохраняются
+     * в одной транзакции, по некорректным возвращается ошибка; пересечения проверяются и внутри пакета
+     *
+     * @param bookingDtos список бронирований
+     * @param user        тот, кто бронирует
+     * @return результаты по каждому элементу в порядке запроса
+     */
+    List<BookingBatchResult> createBookings(List<BookingDto> bookingDtos, UserPrincipal user);
+
+    /**
+     * Метод обновления бронирования (подтверждение или отклонение)
+     *
+     * @param bookingDto экземпляр сущности bookingDto, которая создается
+     * @param user       владелец вещи
+     * @param isApproved флаг подтверждения брони
+     * @return экземпляр обновленного бронирования
+     */
+    BookingDto updateBooking(Long bookingDto, UserPrincipal user, Boolean isApproved);
+
+    /**
+     * Метод пакетного подтверждения и отклонения бронирований владельцем в одной транзакции.
+     * В режиме APPROVE_MAX_NON_OVERLAPPING для каждой вещи подтверждается наибольший набор
+     * непересекающихся WAITING-бронирований, остальные WAITING-бронирования вещи отклоняются
+     *
+     * @param decisions решения или список вещей
+     * @param user      владелец вещей
+     * @return результаты по каждому решению
+     */
+    List<BookingBatchResult> decideBookings(BookingDecisionsDto decisions, UserPrincipal user);
+
+    /**
+     * Метод получения бронирования по ID
+     *
+     * @param bookingId ID бронирования
+     * @param user      пользователь
+     * @return экземляр сущности бронирования
+     */
+    BookingDto getBookingById(Long bookingId, UserPrincipal user);
+
+    /**
+     * Метод получения всех бронирований для владельца
+     *
+     * @param user   владелец вещи
+     * @param state  статус брони по времени и подтверждению(?)
+     * @return список экземляров бронирований
+     */
+    List<BookingDto> getAllBookingByOwnerId(UserPrincipal user, String state, int from, int size);
+
+
+    /**
+     * Метод получения всех бронирований для пользователя
+     *
+     * @param user   тот, кто бронирует
+     * @param state  state статус брони по времени и подтверждению(?)
+     * @return список экземляров бронирований
+     */
+    List<BookingDto> getAllBookingByUserId(UserPrincipal user, String state, int from, int size);
+
+    /**
+     * Метод получения страницы бронирований для пользователя, следующей за курсором
+     *
+     * @param user   тот, кто бронирует
+     * @param state  статус брони по времени и подтверждению
+     * @param after  курсор последнего бронирования предыдущей страницы или null для первой страницы
+     * @param size   размер страницы
+     * @return список экземляров бронирований
+     */
+    List<BookingDto> getAllBookingByUserIdAfter(UserPrincipal user, String state, String after, int size);
+
+    /**
+     * Метод получения страницы бронирований для владельца, следующей за курсором
+     *
+     * @param user   владелец вещи
+     * @param state  статус брони по времени и подтверждению
+     * @param after  курсор последнего бронирования предыдущей страницы или null для первой страницы
+     * @param size   размер страницы
+     * @return список экземляров бронирований
+     */
+    List<BookingDto> getAllBookingByOwnerIdAfter(UserPrincipal user, String state, String after, int size);
+}
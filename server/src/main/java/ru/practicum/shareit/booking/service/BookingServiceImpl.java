@@ -0,0 +1,625 @@
+package ru.practicum.shareit.booking.service;
+
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.BookingExpiryScheduler;
+import ru.practicum.shareit.booking.BookedItemsIndex;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingSpecifications;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingDecisionMode;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exception.ExistsElementException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemViewCache;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserPrincipal;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.OffsetPageRequest;
+import ru.practicum.shareit.util.IntervalScheduling;
+import ru.practicum.shareit.util.StripedLock;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BookingServiceImpl implements BookingService {
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_UPDATE_ATTEMPTS = 5;
+    private static final int ITEM_LOCK_STRIPES = 64;
+
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final BookedItemsIndex bookedItemsIndex;
+    private final ItemViewCache itemViewCache;
+    private final BookingExpiryScheduler bookingExpiryScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedLock itemLocks = new StripedLock(ITEM_LOCK_STRIPES);
+
+    /*
+     * Проверка пересечения и добавление в индекс интервалов выполняются под блокировкой полосы вещи,
+     * которая держится до конца транзакции: иначе два одновременных запроса на одни даты оба пройдут проверку.
+     */
+    @Transactional
+    public BookingDto createBooking(BookingDto bookingDto, UserPrincipal user) {
+
+        User booker = userRepository.getReferenceById(user.getId());
+        Item item = itemRepository.findById(bookingDto.getItemId())
+                .orElseThrow(() -> new NotFoundException(String.format("Item with ID %s not found", bookingDto.getItemId())));
+        lockItemUntilCompletion(item.getId());
+        Booking booking = BookingMapper.toBooking(booker, item, bookingDto);
+
+        validate(booking);
+        if (bookingIntervalIndex.overlaps(item.getId(), booking.getStart(), booking.getEnd())) {
+            throw new ValidationException("Item is already booked for these dates");
+        }
+        booking.setStatus(BookingStatus.WAITING);
+        Booking savedBooking = bookingRepository.save(booking);
+        bookingIntervalIndex.add(savedBooking);
+        TransactionCallbacks.afterRollback(() -> bookingIntervalIndex.remove(savedBooking));
+        bookingExpiryScheduler.schedule(savedBooking);
+        itemViewCache.evictBookings(item.getId());
+        log.info("Item with ID {} is booked", item.getId());
+
+        return BookingMapper.toBookingDto(savedBooking);
+    }
+
+    @Transactional
+    public List<BookingBatchResult> createBookings(List<BookingDto> bookingDtos, UserPrincipal user) {
+
+        if (bookingDtos == null || bookingDtos.isEmpty()) {
+            throw new ValidationException("Batch is empty");
+        }
+        if (bookingDtos.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException(String.format("Batch size can't exceed %s", MAX_BATCH_SIZE));
+        }
+        User booker = userRepository.getReferenceById(user.getId());
+        Set<Long> itemIds = bookingDtos.stream()
+                .map(BookingDto::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        lockItemsUntilCompletion(itemIds);
+        Map<Long, Item> items = itemRepository.findAllByIdForUpdate(itemIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<BookingBatchResult> results = new ArrayList<>(bookingDtos.size());
+        for (int i = 0; i < bookingDtos.size(); i++) {
+            BookingDto bookingDto = bookingDtos.get(i);
+            try {
+                Booking savedBooking = createBatchEntry(bookingDto, booker, items);
+                results.add(BookingBatchResult.builder()
+                        .index(i)
+                        .status(HttpStatus.OK.value())
+                        .booking(BookingMapper.toBookingDto(savedBooking))
+                        .build());
+            } catch (ValidationException e) {
+                results.add(BookingBatchResult.builder()
+                        .index(i)
+                        .status(HttpStatus.BAD_REQUEST.value())
+                        .error(e.getMessage())
+                        .build());
+            } catch (NotFoundException e) {
+                results.add(BookingBatchResult.builder()
+                        .index(i)
+                        .status(HttpStatus.NOT_FOUND.value())
+                        .error(e.getMessage())
+                        .build());
+            }
+        }
+        log.info("Batch of {} bookings is processed for user with ID {}", bookingDtos.size(), user.getId());
+
+        return results;
+    }
+
+    /**
+     * Решения по бронированиям одной вещи выполняются по очереди: внутри приложения их сериализует
+     * полоса itemLocks, удерживаемая до конца транзакции, между экземплярами - версии бронирования и вещи.
+     * При конфликте версий решение повторяется в новой транзакции после короткой случайной паузы.
+     */
+    public BookingDto updateBooking(Long bookingId, UserPrincipal user, Boolean isApproved) {
+        return withRetry(() -> decide(bookingId, user.getId(), isApproved),
+                String.format("Booking with ID %s is updated concurrently", bookingId));
+    }
+
+    /**
+     * Все решения пакета применяются в одной транзакции: бронирования, вещи владельца и уже подтвержденные
+     * бронирования этих вещей читаются тремя запросами, изменения уходят в БД одним JDBC-батчем.
+     * Повторы при конфликте версий - как в updateBooking.
+     */
+    public List<BookingBatchResult> decideBookings(BookingDecisionsDto decisions, UserPrincipal user) {
+        if (decisions == null || decisions.getMode() == null) {
+            throw new ValidationException("Decision mode is required");
+        }
+        long userId = user.getId();
+        String conflict = String.format("Bookings of user with ID %s are updated concurrently", userId);
+        if (decisions.getMode() == BookingDecisionMode.APPROVE_MAX_NON_OVERLAPPING) {
+            List<Long> itemIds = requireBatch(decisions.getItemIds());
+            return withRetry(() -> approveMaxNonOverlapping(itemIds, userId), conflict);
+        }
+        List<BookingDecisionsDto.Decision> explicit = requireBatch(decisions.getDecisions());
+        return withRetry(() -> applyDecisions(explicit, userId), conflict);
+    }
+
+    @Transactional
+    public BookingDto getBookingById(Long bookingId, UserPrincipal user) {
+        Booking booking = getBookingById(bookingId);
+        Long userId = user.getId();
+
+        if (booking.getBooker().getId().equals(userId) || booking.getItem().getOwner().getId().equals(userId)) {
+            return BookingMapper.toBookingDto(booking);
+        } else {
+            throw new NotFoundException(String.format("Booking with ID %s wasn't find", bookingId));
+        }
+    }
+
+    @Transactional
+    public Booking getBookingById(Long bookingId) {
+        return bookingRepository.findWithItemById(bookingId)
+                .orElseThrow(() -> new NotFoundException(String.format("Booking with ID %s doesn't exists",
+                        bookingId)));
+    }
+
+    public BookingState getStateByStr(String stateStr) {
+
+        BookingState state;
+        if (stateStr == null) {
+            state = BookingState.ALL;
+        } else {
+            try {
+                state = BookingState.valueOf(stateStr);
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException(String.format("Unknown state: %s", stateStr));
+            }
+        }
+
+        return state;
+    }
+
+    public List<BookingDto> getAllBookingByUser(Long useId, String stateStr, int from, int size) {
+
+        BookingState state = getStateByStr(stateStr);
+        Pageable pageable = OffsetPageRequest.of(from, size);
+
+        return bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.BOOKER, useId, state, LocalDateTime.now()), pageable);
+    }
+
+    public List<BookingDto> getAllBookingByOwner(Long useId, String stateStr, int from, int size) {
+
+        BookingState state = getStateByStr(stateStr);
+        Pageable pageable = OffsetPageRequest.of(from, size);
+
+        return bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.OWNER, useId, state, LocalDateTime.now()), pageable);
+    }
+
+    @Transactional
+    public List<BookingDto> getAllBookingByOwnerId(UserPrincipal owner, String stateStr, int from, int size) {
+
+        Long ownerId = owner.getId();
+        List<BookingDto> bookings;
+        try {
+            if (size <= 0 || from < 0) {
+                throw new ValidationException("size and from have to positive");
+            }
+            bookings = getAllBookingByOwner(ownerId, stateStr, from, size);
+        } catch (ValidationException e) {
+            requireBookings(bookingRepository.existsByOwnerId(ownerId));
+            throw e;
+        }
+        if (bookings.isEmpty()) {
+            requireBookings(bookingRepository.existsByOwnerId(ownerId));
+        }
+        return bookings;
+    }
+
+    @Transactional
+    public List<BookingDto> getAllBookingByUserId(UserPrincipal user, String stateStr, int from, int size) {
+
+        Long userId = user.getId();
+        List<BookingDto> bookings;
+        try {
+            bookings = getAllBookingByUser(userId, stateStr, from, size);
+        } catch (ValidationException e) {
+            requireBookings(bookingRepository.existsByBookerId(userId));
+            throw e;
+        }
+        if (bookings.isEmpty()) {
+            requireBookings(bookingRepository.existsByBookerId(userId));
+        }
+        return bookings;
+    }
+
+    @Transactional
+    public List<BookingDto> getAllBookingByUserIdAfter(UserPrincipal user, String stateStr, String after, int size) {
+
+        Long userId = user.getId();
+        return getAllBookingAfter(BookingRole.BOOKER, userId, stateStr, after, size,
+                () -> bookingRepository.existsByBookerId(userId));
+    }
+
+    @Transactional
+    public List<BookingDto> getAllBookingByOwnerIdAfter(UserPrincipal owner, String stateStr, String after, int size) {
+
+        Long ownerId = owner.getId();
+        return getAllBookingAfter(BookingRole.OWNER, ownerId, stateStr, after, size,
+                () -> bookingRepository.existsByOwnerId(ownerId));
+    }
+
+    /*
+     * Без курсора запрашивается первая страница, и для нее действует то же правило, что и для смещения:
+     * пустая страница или ошибка в параметрах у пользователя без бронирований дают 404.
+     * Пустая страница после курсора - это просто конец списка.
+     */
+    private List<BookingDto> getAllBookingAfter(BookingRole role, Long userId, String stateStr, String after, int size,
+                                                BooleanSupplier hasBookings) {
+        boolean firstPage = after == null || after.isBlank();
+        List<BookingDto> bookings;
+        try {
+            if (size <= 0) {
+                throw new ValidationException("size has to positive");
+            }
+            Specification<Booking> specification = BookingSpecifications.of(role, userId, getStateByStr(stateStr),
+                    LocalDateTime.now());
+            if (!firstPage) {
+                specification = specification.and(BookingSpecifications.after(BookingCursor.decode(after)));
+            }
+            bookings = bookingRepository.findBookings(specification, PageRequest.of(0, size));
+        } catch (ValidationException e) {
+            if (firstPage) {
+                requireBookings(hasBookings.getAsBoolean());
+            }
+            throw e;
+        }
+        if (firstPage && bookings.isEmpty()) {
+            requireBookings(hasBookings.getAsBoolean());
+        }
+        return bookings;
+    }
+
+    /*
+     * Бронирование читается до блокировки и может оказаться устаревшим; тогда его версия не совпадет
+     * при фиксации, и решение будет повторено. Пересечение с подтвержденными проверяется уже под блокировкой.
+     */
+    private BookingDto decide(Long bookingId, Long userId, Boolean isApproved) {
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new NotFoundException(String.format("Booking with ID %s doesn't exists",
+                        bookingId)));
+        long itemId = booking.getItem().getId();
+        lockItemUntilCompletion(itemId);
+        itemRepository.findByIdForApproval(itemId)
+                .orElseThrow(() -> new NotFoundException(String.format("Item with ID %s not found", itemId)));
+
+        validateForUpdating(booking, userId, isApproved);
+        if (isApproved && bookingRepository.existsApprovedOverlap(itemId, bookingId, booking.getStart(),
+                booking.getEnd())) {
+            throw new ValidationException("Item is already booked for these dates");
+        }
+        setApprovedStatus(booking, isApproved);
+        updateIntervalIndex(booking, isApproved);
+        itemViewCache.evictBookings(itemId);
+        log.info("Booking with ID {} is updated", booking.getId());
+
+        return BookingMapper.toBookingDto(bookingRepository.save(booking));
+    }
+
+    private List<BookingBatchResult> applyDecisions(List<BookingDecisionsDto.Decision> decisions, Long userId) {
+        Set<Long> bookingIds = decisions.stream()
+                .map(BookingDecisionsDto.Decision::getBookingId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Booking> bookings = bookingRepository.findAllById(bookingIds)
+                .stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Set<Long> itemIds = bookings.values().stream()
+                .map(booking -> booking.getItem().getId())
+                .collect(Collectors.toSet());
+        Set<Long> ownItemIds = lockOwnItems(itemIds, userId);
+        Map<Long, List<Booking>> approvedByItem = ownItemIds.isEmpty() ? new HashMap<>() : bookingRepository
+                .findByItemIdInAndStatusIn(ownItemIds, List.of(BookingStatus.APPROVED))
+                .stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+
+        List<BookingBatchResult> results = new ArrayList<>(decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            BookingDecisionsDto.Decision decision = decisions.get(i);
+            try {
+                Booking booking = applyDecision(decision, userId, bookings, ownItemIds, approvedByItem);
+                results.add(decided(i, booking));
+            } catch (ValidationException e) {
+                results.add(failed(i, HttpStatus.BAD_REQUEST, e));
+            } catch (NotFoundException e) {
+                results.add(failed(i, HttpStatus.NOT_FOUND, e));
+            }
+        }
+        ownItemIds.forEach(itemViewCache::evictBookings);
+        log.info("{} booking decisions are processed for owner with ID {}", decisions.size(), userId);
+
+        return results;
+    }
+
+    private Booking applyDecision(BookingDecisionsDto.Decision decision, Long userId, Map<Long, Booking> bookings,
+                                  Set<Long> ownItemIds, Map<Long, List<Booking>> approvedByItem) {
+        if (decision.getBookingId() == null || decision.getApproved() == null) {
+            throw new ValidationException("bookingId and approved are required");
+        }
+        Booking booking = bookings.get(decision.getBookingId());
+        if (booking == null) {
+            throw new NotFoundException(String.format("Booking with ID %s doesn't exists", decision.getBookingId()));
+        }
+        long itemId = booking.getItem().getId();
+        if (!ownItemIds.contains(itemId)) {
+            throw new NotFoundException("User != owner");
+        }
+        boolean isApproved = decision.getApproved();
+        validateForUpdating(booking, userId, isApproved);
+        List<Booking> approved = approvedByItem.computeIfAbsent(itemId, id -> new ArrayList<>());
+        if (isApproved && approved.stream().anyMatch(other -> !other.getId().equals(booking.getId())
+                && other.getStart().isBefore(booking.getEnd()) && other.getEnd().isAfter(booking.getStart()))) {
+            throw new ValidationException("Item is already booked for these dates");
+        }
+        setApprovedStatus(booking, isApproved);
+        updateIntervalIndex(booking, isApproved);
+        if (isApproved) {
+            approved.add(booking);
+        } else {
+            approved.remove(booking);
+        }
+        return booking;
+    }
+
+    /*
+     * Подтвержденные бронирования вещи остаются как есть, среди WAITING выбирается наибольший набор,
+     * не пересекающийся ни с ними, ни между собой. Остальные WAITING-бронирования вещи пересекаются
+     * с выбранными или подтвержденными и подтвердиться уже не смогут, поэтому отклоняются.
+     */
+    private List<BookingBatchResult> approveMaxNonOverlapping(List<Long> itemIds, Long userId) {
+        Set<Long> requested = new TreeSet<>(itemIds);
+        Set<Long> ownItemIds = lockOwnItems(requested, userId);
+        Map<Long, Map<BookingStatus, List<Booking>>> bookingsByItem = ownItemIds.isEmpty() ? Map.of() : bookingRepository
+                .findByItemIdInAndStatusIn(ownItemIds, List.of(BookingStatus.WAITING, BookingStatus.APPROVED))
+                .stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId(),
+                        Collectors.groupingBy(Booking::getStatus)));
+
+        List<BookingBatchResult> results = new ArrayList<>();
+        for (long itemId : requested) {
+            if (!ownItemIds.contains(itemId)) {
+                results.add(failed(results.size(), HttpStatus.NOT_FOUND,
+                        new NotFoundException(String.format("Item with ID %s not found", itemId))));
+                continue;
+            }
+            Map<BookingStatus, List<Booking>> bookings = bookingsByItem.getOrDefault(itemId, Map.of());
+            List<Booking> waiting = bookings.getOrDefault(BookingStatus.WAITING, List.of());
+            Set<Booking> chosen = new HashSet<>(IntervalScheduling.maxNonOverlapping(waiting,
+                    bookings.getOrDefault(BookingStatus.APPROVED, List.of()), Booking::getStart, Booking::getEnd));
+            for (Booking booking : waiting) {
+                boolean isApproved = chosen.contains(booking);
+                setApprovedStatus(booking, isApproved);
+                updateIntervalIndex(booking, isApproved);
+                results.add(decided(results.size(), booking));
+            }
+            itemViewCache.evictBookings(itemId);
+        }
+        log.info("Non-overlapping bookings of {} items are approved for owner with ID {}", ownItemIds.size(), userId);
+
+        return results;
+    }
+
+    /*
+     * Вещи пакета блокируются полосами itemLocks и строками в БД, их версии увеличиваются одним UPDATE:
+     * одиночное решение, прочитавшее вещь до этого, получит конфликт версий при фиксации.
+     */
+    private Set<Long> lockOwnItems(Set<Long> itemIds, Long userId) {
+        if (itemIds.isEmpty()) {
+            return Set.of();
+        }
+        lockItemsUntilCompletion(itemIds);
+        Set<Long> ownItemIds = itemRepository.findAllByIdForDecisions(itemIds, userId)
+                .stream()
+                .map(Item::getId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!ownItemIds.isEmpty()) {
+            itemRepository.incrementVersions(ownItemIds);
+        }
+        return ownItemIds;
+    }
+
+    private <T> List<T> requireBatch(List<T> batch) {
+        if (batch == null || batch.isEmpty()) {
+            throw new ValidationException("Batch is empty");
+        }
+        if (batch.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException(String.format("Batch size can't exceed %s", MAX_BATCH_SIZE));
+        }
+        return batch;
+    }
+
+    private static BookingBatchResult decided(int index, Booking booking) {
+        return BookingBatchResult.builder()
+                .index(index)
+                .status(HttpStatus.OK.value())
+                .booking(BookingMapper.toBookingDto(booking))
+                .build();
+    }
+
+    private static BookingBatchResult failed(int index, HttpStatus status, RuntimeException e) {
+        return BookingBatchResult.builder()
+                .index(index)
+                .status(status.value())
+                .error(e.getMessage())
+                .build();
+    }
+
+    /*
+     * Действие выполняется в собственной транзакции; при конфликте версий оно повторяется в новой
+     * после короткой случайной паузы, а после MAX_UPDATE_ATTEMPTS попыток запрос завершается с 409.
+     */
+    private <T> T withRetry(Supplier<T> action, String conflictMessage) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == MAX_UPDATE_ATTEMPTS) {
+                    throw new ExistsElementException(conflictMessage);
+                }
+                log.debug("{}, attempt {}", conflictMessage, attempt);
+                pause(attempt, e);
+            }
+        }
+    }
+
+    private void lockItemUntilCompletion(long itemId) {
+        lockItemsUntilCompletion(List.of(itemId));
+    }
+
+    private void lockItemsUntilCompletion(Collection<Long> itemIds) {
+        for (Lock lock : itemLocks.getAll(itemIds)) {
+            lock.lock();
+            TransactionCallbacks.afterCompletion(lock::unlock);
+        }
+    }
+
+    private void pause(int attempt, OptimisticLockingFailureException conflict) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 2L << attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    /*
+     * Сохранение откладывается до flush в конце транзакции, поэтому вставки всего пакета уходят
+     * в БД одним JDBC-батчем; ID же выдается сразу, и бронирование попадает в индекс интервалов,
+     * чтобы следующие элементы пакета проверялись и против него. Полосы вещей пакета заблокированы
+     * в createBookings, так что одиночное создание не вклинится между проверкой и добавлением.
+     */
+    private Booking createBatchEntry(BookingDto bookingDto, User booker, Map<Long, Item> items) {
+        if (bookingDto.getItemId() == null || bookingDto.getStart() == null || bookingDto.getEnd() == null) {
+            throw new ValidationException("itemId, start and end are required");
+        }
+        Item item = items.get(bookingDto.getItemId());
+        if (item == null) {
+            throw new NotFoundException(String.format("Item with ID %s not found", bookingDto.getItemId()));
+        }
+        Booking booking = BookingMapper.toBooking(booker, item, bookingDto);
+        booking.setId(null);
+
+        validate(booking);
+        if (bookingIntervalIndex.overlaps(item.getId(), booking.getStart(), booking.getEnd())) {
+            throw new ValidationException("Item is already booked for these dates");
+        }
+        booking.setStatus(BookingStatus.WAITING);
+        Booking savedBooking = bookingRepository.save(booking);
+        bookingIntervalIndex.add(savedBooking);
+        TransactionCallbacks.afterRollback(() -> bookingIntervalIndex.remove(savedBooking));
+        bookingExpiryScheduler.schedule(savedBooking);
+        itemViewCache.evictBookings(item.getId());
+        return savedBooking;
+    }
+
+    /*
+     * Пустая страница или ошибка в параметрах еще не означают, что бронирований нет:
+     * в этих случаях, и только в них, выполняется дешевая проверка существования.
+     */
+    private void requireBookings(boolean exists) {
+        if (!exists) {
+            throw new NotFoundException("There's no bookings");
+        }
+    }
+
+    private void validate(Booking booking) {
+
+        if (!booking.getItem().getAvailable()) {
+            throw new ValidationException("Item isn't available");
+        }
+        if (booking.getBooker().getId().equals(booking.getItem().getOwner().getId())) {
+            throw new NotFoundException("Owner can not booked his item");
+        }
+        if (booking.getStart().isAfter(booking.getEnd())) {
+            throw new ValidationException("Start after end");
+        }
+        if (booking.getStart().isBefore(LocalDateTime.now())) {
+            throw new ValidationException("Start in the past");
+        }
+        if (booking.getEnd().isBefore(LocalDateTime.now())) {
+            throw new ValidationException("End in the past");
+        }
+    }
+
+    private void validateForUpdating(Booking booking, Long userId, Boolean isApproved) {
+        if (!booking.getItem().getOwner().getId().equals(userId)) {
+            throw new NotFoundException("User != owner");
+        }
+        if (booking.getStatus().equals(BookingStatus.EXPIRED)) {
+            throw new ValidationException("Booking is expired");
+        }
+        if (booking.getStatus().equals(BookingStatus.APPROVED) && isApproved) {
+            throw new ValidationException("Already approved");
+        }
+        if (booking.getStatus().equals(BookingStatus.REJECTED) && !isApproved) {
+            throw new ValidationException("Already rejected");
+        }
+    }
+
+    private void updateIntervalIndex(Booking booking, Boolean isApproved) {
+        bookedItemsIndex.update(booking);
+        if (isApproved) {
+            if (bookingIntervalIndex.add(booking)) {
+                TransactionCallbacks.afterRollback(() -> bookingIntervalIndex.remove(booking));
+            }
+        } else if (bookingIntervalIndex.remove(booking)) {
+            TransactionCallbacks.afterRollback(() -> bookingIntervalIndex.add(booking));
+        }
+    }
+
+    private void setApprovedStatus(Booking booking, Boolean isApproved) {
+        if (isApproved) {
+            booking.setStatus(BookingStatus.APPROVED);
+        } else {
+            booking.setStatus(BookingStatus.REJECTED);
+        }
+    }
+}
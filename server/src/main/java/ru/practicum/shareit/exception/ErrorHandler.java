@@ -1,6 +1,7 @@
 package ru.practicum.shareit.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -36,6 +37,14 @@ public class ErrorHandler {
                 HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailureException(
+            final OptimisticLockingFailureException e) {
+        log.info(e.getMessage());
+        return new ResponseEntity<>(Map.of("error", "Entity was modified concurrently, retry the request"),
+                HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(
             final IllegalArgumentException e) {
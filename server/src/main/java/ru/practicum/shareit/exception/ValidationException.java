@@ -0,0 +1,8 @@
+package ru.practicum.shareit.exception;
+
+public class ValidationException extends RuntimeException {
+
+    public ValidationException(String error) {
+        super(error);
+    }
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.model.Comment;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @EntityGraph("Comment.author")
+    @Query("SELECT c FROM Comment c WHERE c.item.id = :itemId ORDER BY c.created DESC")
+    List<Comment> findByItem_IdOrderByCreatedDesc(@Param("itemId") Long itemId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.item.id IN :itemIds ORDER BY c.created DESC")
+    List<Comment> findByItemIdsWithAuthors(@Param("itemIds") Collection<Long> itemIds);
+}
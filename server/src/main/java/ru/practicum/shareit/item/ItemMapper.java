@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item;
 
+import ru.practicum.shareit.booking.dto.ItemBookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
@@ -40,8 +41,37 @@ public class ItemMapper {
                 .build();
     }
 
+    public static ItemDtoWithBooking toItemDtoWithBooking(List<Comment> commentList, Item item) {
+        return toItemDtoWithBooking(commentList, (ItemDtoWithBooking.Booking) null, null, item);
+    }
+
     public static ItemDtoWithBooking toItemDtoWithBooking(List<Comment> commentList, Booking lastBooking,
                                                           Booking nextBooking, Item item) {
+        return toItemDtoWithBooking(commentList, toBookingShort(lastBooking), toBookingShort(nextBooking), item);
+    }
+
+    public static ItemDtoWithBooking toItemDtoWithBooking(List<Comment> commentList, ItemBookingView lastBooking,
+                                                          ItemBookingView nextBooking, Item item) {
+        return toItemDtoWithBooking(commentList, toBookingShort(lastBooking), toBookingShort(nextBooking), item);
+    }
+
+    public static ItemDtoWithBooking toItemDtoWithBooking(ItemDtoWithBooking itemDto,
+                                                          ItemDtoWithBooking.Booking lastBooking,
+                                                          ItemDtoWithBooking.Booking nextBooking) {
+        return ItemDtoWithBooking.builder()
+                .id(itemDto.getId())
+                .name(itemDto.getName())
+                .description(itemDto.getDescription())
+                .available(itemDto.getAvailable())
+                .lastBooking(lastBooking)
+                .nextBooking(nextBooking)
+                .comments(itemDto.getComments())
+                .build();
+    }
+
+    private static ItemDtoWithBooking toItemDtoWithBooking(List<Comment> commentList,
+                                                           ItemDtoWithBooking.Booking lastBooking,
+                                                           ItemDtoWithBooking.Booking nextBooking, Item item) {
 
         List<ItemDtoWithBooking.Comment> comments = commentList.stream()
                 .map(comment -> {
@@ -53,30 +83,28 @@ public class ItemMapper {
                     return comment1;
                 }).collect(Collectors.toList());
 
-        ItemDtoWithBooking.Booking lstBooking = new ItemDtoWithBooking.Booking();
-        if (lastBooking != null) {
-            lstBooking.setId(lastBooking.getId());
-            lstBooking.setBookerId(lastBooking.getBooker().getId());
-        } else {
-            lstBooking = null;
-        }
-
-        ItemDtoWithBooking.Booking nxtBooking = new ItemDtoWithBooking.Booking();
-        if (nextBooking != null) {
-            nxtBooking.setId(nextBooking.getId());
-            nxtBooking.setBookerId(nextBooking.getBooker().getId());
-        } else {
-            nxtBooking = null;
-        }
-
         return ItemDtoWithBooking.builder()
                 .id(item.getId())
                 .name(item.getName())
                 .description(item.getDescription())
                 .available(item.getAvailable())
-                .lastBooking(lstBooking)
-                .nextBooking(nxtBooking)
+                .lastBooking(lastBooking)
+                .nextBooking(nextBooking)
                 .comments(comments)
                 .build();
     }
+
+    private static ItemDtoWithBooking.Booking toBookingShort(Booking booking) {
+        if (booking == null) {
+            return null;
+        }
+        return new ItemDtoWithBooking.Booking(booking.getId(), booking.getBooker().getId());
+    }
+
+    private static ItemDtoWithBooking.Booking toBookingShort(ItemBookingView booking) {
+        if (booking == null) {
+            return null;
+        }
+        return new ItemDtoWithBooking.Booking(booking.getId(), booking.getBookerId());
+    }
 }
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.ItemSearchView;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.LockModeType;
+import javax.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemRepository extends JpaRepository<Item, Long> {
+
+    @Query("select i from Item i where i.owner.id = :userId order by i.id")
+    Collection<Item> findByOwnerIdOrderByIdAsc(@Param("userId") Long userId);
+
+    @Query("select i from Item i where i.available = true " +
+            " and (lower(i.name) like lower(concat('%',:keyword,'%')) " +
+            " or lower(i.description) like lower(concat('%',:keyword,'%')))")
+    Collection<Item> findByKeyword(@Param("keyword") String keyword);
+
+    @Query("select i from Item i where i.request.id = :id")
+    List<Item> findByRequest_Id(@Param("id") Long id, Sort sort);
+
+    /**
+     * Загружает вещи с блокировкой строк на запись. Строки блокируются в порядке возрастания ID,
+     * поэтому конкурентные пакетные бронирования с пересекающимися наборами вещей не взаимоблокируются.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id in :ids order by i.id")
+    List<Item> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Вещь для решения по ее бронированию: версия вещи увеличивается при фиксации транзакции,
+     * поэтому два одновременных решения по бронированиям одной вещи не могут зафиксироваться оба.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select i from Item i where i.id = :id")
+    Optional<Item> findByIdForApproval(@Param("id") long id);
+
+    /**
+     * Вещи владельца из списка для пакетного решения по их бронированиям, с блокировкой строк в порядке ID.
+     * OPTIMISTIC_FORCE_INCREMENT здесь не подходит: Hibernate увеличивает версии отдельным UPDATE на каждую вещь,
+     * поэтому версии заблокированных вещей увеличивает один incrementVersions.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id in :ids and i.owner.id = :ownerId order by i.id")
+    List<Item> findAllByIdForDecisions(@Param("ids") Collection<Long> ids, @Param("ownerId") long ownerId);
+
+    /**
+     * Увеличивает версии вещей, чтобы параллельные одиночные решения по их бронированиям получили конфликт.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Item i set i.version = i.version + 1 where i.id in :ids")
+    int incrementVersions(@Param("ids") Collection<Long> ids);
+
+    @Query("select i.id as id, i.name as name, i.description as description from Item i where i.available = true")
+    List<ItemSearchView> findAllAvailableForSearch();
+}
@@ -0,0 +1,380 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemSearchView;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Инвертированный триграммный индекс по названию и описанию доступных вещей.
+ * Каждой вещи присваивается порядковый номер (ordinal), списки вхождений триграмм хранятся
+ * как отсортированные массивы int. Номера удаленных вещей переиспользуются, поэтому массивы вещей
+ * не растут от обновлений. Поиск подстроки пересекает списки вхождений триграмм ключевого слова,
+ * а затем проверяет найденных кандидатов на точное вхождение подстроки.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+
+    private static final int TRIGRAM = 3;
+    private static final long NAME_MATCH_BONUS = 1L << 32;
+
+    private final ItemRepository itemRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] itemIds = new long[16];
+    private String[] names = new String[16];
+    private String[] descriptions = new String[16];
+    private int ordinalCount;
+    private int[] freeOrdinals = new int[16];
+    private int freeCount;
+
+    @PostConstruct
+    public void rebuild() {
+        List<ItemSearchView> items = itemRepository.findAllAvailableForSearch();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinals.clear();
+            Arrays.fill(names, null);
+            Arrays.fill(descriptions, null);
+            ordinalCount = 0;
+            freeCount = 0;
+            for (ItemSearchView item : items) {
+                add(item.getId(), item.getName(), item.getDescription());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Item search index is built with {} items", items.size());
+    }
+
+    /**
+     * Добавляет, обновляет или удаляет вещь из индекса в зависимости от ее доступности.
+     */
+    public void index(long itemId, String name, String description, boolean available) {
+        lock.writeLock().lock();
+        try {
+            remove(itemId);
+            if (available) {
+                add(itemId, name, description);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Возвращает страницу ID доступных вещей, в названии или описании которых встречается keyword
+     * (без учета регистра), упорядоченную по релевантности: сначала совпадения в названии,
+     * затем по числу вхождений, при равенстве по возрастанию ID.
+     * Отбор выполняется кучей размера from + size, но не больше числа кандидатов, поэтому память
+     * не зависит от числа совпадений и не растет от больших from и size.
+     */
+    public List<Long> search(String keyword, int from, int size) {
+        return search(keyword, from, size, itemId -> true);
+    }
+
+    /**
+     * То же, что search(keyword, from, size), но среди вещей, ID которых проходят фильтр filter.
+     * Фильтр проверяется до сравнения подстроки, чтобы отсеянные вещи не занимали места в выдаче.
+     */
+    public List<Long> search(String keyword, int from, int size, LongPredicate filter) {
+        String query = normalize(keyword);
+        TopK top;
+        lock.readLock().lock();
+        try {
+            int[] candidates = query.length() < TRIGRAM ? null : candidates(query);
+            int candidateCount = candidates == null ? ordinals.size() : candidates.length;
+            if (from >= candidateCount) {
+                return new ArrayList<>();
+            }
+            top = new TopK((int) Math.min((long) from + size, candidateCount));
+            if (candidates == null) {
+                for (int ordinal = 0; ordinal < ordinalCount; ordinal++) {
+                    offer(top, ordinal, query, filter);
+                }
+            } else {
+                for (int ordinal : candidates) {
+                    offer(top, ordinal, query, filter);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Long> ranked = top.drainBestFirst();
+        return from >= ranked.size() ? new ArrayList<>() : new ArrayList<>(ranked.subList(from, ranked.size()));
+    }
+
+    private void offer(TopK top, int ordinal, String query, LongPredicate filter) {
+        if (names[ordinal] == null || !filter.test(itemIds[ordinal])) {
+            return;
+        }
+        int nameMatches = occurrences(names[ordinal], query);
+        int descriptionMatches = occurrences(descriptions[ordinal], query);
+        if (nameMatches == 0 && descriptionMatches == 0) {
+            return;
+        }
+        long score = (nameMatches > 0 ? NAME_MATCH_BONUS : 0) + nameMatches + descriptionMatches;
+        top.offer(score, itemIds[ordinal]);
+    }
+
+    private static int occurrences(String text, String query) {
+        int count = 0;
+        int position = text.indexOf(query);
+        while (position >= 0) {
+            count++;
+            position = text.indexOf(query, position + query.length());
+        }
+        return count;
+    }
+
+    private int[] candidates(String query) {
+        List<PostingList> lists = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM <= query.length(); i++) {
+            PostingList list = postings.get(trigram(query, i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort((first, second) -> Integer.compare(first.size, second.size));
+
+        int[] candidates = Arrays.copyOf(lists.get(0).ordinals, lists.get(0).size);
+        int size = candidates.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            size = intersect(candidates, size, lists.get(i));
+        }
+        return Arrays.copyOf(candidates, size);
+    }
+
+    private static int intersect(int[] candidates, int size, PostingList list) {
+        int result = 0;
+        int j = 0;
+        for (int i = 0; i < size && j < list.size; i++) {
+            int candidate = candidates[i];
+            while (j < list.size && list.ordinals[j] < candidate) {
+                j++;
+            }
+            if (j < list.size && list.ordinals[j] == candidate) {
+                candidates[result++] = candidate;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Число занятых порядковых номеров, включая освобожденные и еще не переиспользованные.
+     */
+    int ordinalCount() {
+        lock.readLock().lock();
+        try {
+            return ordinalCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(long itemId, String name, String description) {
+        int ordinal;
+        if (freeCount > 0) {
+            ordinal = freeOrdinals[--freeCount];
+        } else {
+            if (ordinalCount == itemIds.length) {
+                int capacity = ordinalCount * 2;
+                itemIds = Arrays.copyOf(itemIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                descriptions = Arrays.copyOf(descriptions, capacity);
+            }
+            ordinal = ordinalCount++;
+        }
+        itemIds[ordinal] = itemId;
+        names[ordinal] = normalize(name);
+        descriptions[ordinal] = normalize(description);
+        ordinals.put(itemId, ordinal);
+        for (long trigram : trigrams(names[ordinal], descriptions[ordinal])) {
+            postings.computeIfAbsent(trigram, key -> new PostingList()).add(ordinal);
+        }
+    }
+
+    private void remove(long itemId) {
+        Integer ordinal = ordinals.remove(itemId);
+        if (ordinal == null) {
+            return;
+        }
+        for (long trigram : trigrams(names[ordinal], descriptions[ordinal])) {
+            PostingList list = postings.get(trigram);
+            if (list != null && list.remove(ordinal) && list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+        names[ordinal] = null;
+        descriptions[ordinal] = null;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = ordinal;
+    }
+
+    private static long[] trigrams(String name, String description) {
+        long[] result = new long[Math.max(0, name.length() - 2) + Math.max(0, description.length() - 2)];
+        int size = 0;
+        for (String text : List.of(name, description)) {
+            for (int i = 0; i + TRIGRAM <= text.length(); i++) {
+                result[size++] = trigram(text, i);
+            }
+        }
+        Arrays.sort(result, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, distinct);
+    }
+
+    private static long trigram(String text, int from) {
+        return ((long) text.charAt(from) << 32) | ((long) text.charAt(from + 1) << 16) | text.charAt(from + 2);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Отсортированный по возрастанию список порядковых номеров вещей, содержащих триграмму.
+     */
+    private static final class PostingList {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        /*
+         * Новые номера больше всех существующих и дописываются в конец; переиспользованный номер
+         * вставляется на свое место.
+         */
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            if (size == 0 || ordinals[size - 1] < ordinal) {
+                ordinals[size++] = ordinal;
+                return;
+            }
+            int position = -Arrays.binarySearch(ordinals, 0, size, ordinal) - 1;
+            System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+            ordinals[position] = ordinal;
+            size++;
+        }
+
+        boolean remove(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+
+    /**
+     * Двоичная min-куча из k лучших результатов на примитивных массивах: в корне худший из отобранных.
+     */
+    private static final class TopK {
+
+        private final long[] scores;
+        private final long[] ids;
+        private int size;
+
+        TopK(int capacity) {
+            scores = new long[capacity];
+            ids = new long[capacity];
+        }
+
+        void offer(long score, long id) {
+            if (scores.length == 0) {
+                return;
+            }
+            if (size < scores.length) {
+                scores[size] = score;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (isWorse(scores[0], ids[0], score, id)) {
+                scores[0] = score;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        List<Long> drainBestFirst() {
+            Long[] result = new Long[size];
+            while (size > 0) {
+                result[size - 1] = ids[0];
+                size--;
+                scores[0] = scores[size];
+                ids[0] = ids[size];
+                siftDown(0);
+            }
+            return Arrays.asList(result);
+        }
+
+        private static boolean isWorse(long score, long id, long otherScore, long otherId) {
+            return score < otherScore || (score == otherScore && id > otherId);
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (!isWorse(scores[position], ids[position], scores[parent], ids[parent])) {
+                    return;
+                }
+                swap(position, parent);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int position) {
+            while (true) {
+                int worst = position;
+                int left = 2 * position + 1;
+                int right = left + 1;
+                if (left < size && isWorse(scores[left], ids[left], scores[worst], ids[worst])) {
+                    worst = left;
+                }
+                if (right < size && isWorse(scores[right], ids[right], scores[worst], ids[worst])) {
+                    worst = right;
+                }
+                if (worst == position) {
+                    return;
+                }
+                swap(position, worst);
+                position = worst;
+            }
+        }
+
+        private void swap(int first, int second) {
+            long score = scores[first];
+            scores[first] = scores[second];
+            scores[second] = score;
+            long id = ids[first];
+            ids[first] = ids[second];
+            ids[second] = id;
+        }
+    }
+}
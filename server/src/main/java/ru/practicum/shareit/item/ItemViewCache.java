@@ -0,0 +1,136 @@
+package ru.practicum.shareit.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.util.LruCache;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Кэши для GET /items/{id}: представление вещи без бронирований (то, что видит не владелец)
+ * и отдельно бронирования каждой вещи, из которых для владельца вычисляются последнее и следующее.
+ * Инвалидация выполняется сразу и повторно по завершении транзакции, чтобы конкурентное чтение
+ * не вернуло в кэш данные, которые транзакция еще не зафиксировала или откатила.
+ */
+@Component
+public class ItemViewCache {
+
+    private final LruCache<Long, CachedItem> items;
+    private final LruCache<Long, BookingTimeline> bookings;
+
+    public ItemViewCache(@Value("${shareit.item-cache.max-size:1000}") int maxSize) {
+        this.items = new LruCache<>(maxSize);
+        this.bookings = new LruCache<>(maxSize);
+    }
+
+    public CachedItem getItem(long itemId, Function<Long, CachedItem> loader) {
+        return items.get(itemId, loader);
+    }
+
+    public BookingTimeline getBookings(long itemId, Function<Long, BookingTimeline> loader) {
+        return bookings.get(itemId, loader);
+    }
+
+    /**
+     * Вызывается при изменении вещи или ее комментариев.
+     */
+    public void evictItem(long itemId) {
+        items.invalidate(itemId);
+        TransactionCallbacks.afterCompletion(() -> items.invalidate(itemId));
+    }
+
+    /**
+     * Вызывается при создании бронирования вещи и смене его статуса.
+     */
+    public void evictBookings(long itemId) {
+        items.invalidate(itemId);
+        bookings.invalidate(itemId);
+        TransactionCallbacks.afterCompletion(() -> {
+            items.invalidate(itemId);
+            bookings.invalidate(itemId);
+        });
+    }
+
+    public void clear() {
+        items.clear();
+        bookings.clear();
+    }
+
+    public LruCache.Stats getItemStats() {
+        return items.stats();
+    }
+
+    public LruCache.Stats getBookingStats() {
+        return bookings.stats();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedItem {
+        private final long ownerId;
+        private final ItemDtoWithBooking view;
+    }
+
+    /**
+     * Все бронирования одной вещи в виде параллельных массивов.
+     */
+    public static final class BookingTimeline {
+
+        private final long[] ids;
+        private final long[] bookerIds;
+        private final LocalDateTime[] starts;
+        private final LocalDateTime[] ends;
+
+        public BookingTimeline(List<BookingIntervalView> bookings) {
+            int size = bookings.size();
+            ids = new long[size];
+            bookerIds = new long[size];
+            starts = new LocalDateTime[size];
+            ends = new LocalDateTime[size];
+            for (int i = 0; i < size; i++) {
+                BookingIntervalView booking = bookings.get(i);
+                ids[i] = booking.getId();
+                bookerIds[i] = booking.getBookerId();
+                starts[i] = booking.getStartDate();
+                ends[i] = booking.getEndDate();
+            }
+        }
+
+        /**
+         * Бронирование с наибольшим концом среди завершившихся до now.
+         */
+        public ItemDtoWithBooking.Booking last(LocalDateTime now) {
+            int best = -1;
+            for (int i = 0; i < ids.length; i++) {
+                if (ends[i].isBefore(now) && (best < 0 || ends[i].isAfter(ends[best]))) {
+                    best = i;
+                }
+            }
+            return toBooking(best);
+        }
+
+        /**
+         * Бронирование с наименьшим началом среди начинающихся после now.
+         */
+        public ItemDtoWithBooking.Booking next(LocalDateTime now) {
+            int best = -1;
+            for (int i = 0; i < ids.length; i++) {
+                if (starts[i].isAfter(now) && (best < 0 || starts[i].isBefore(starts[best]))) {
+                    best = i;
+                }
+            }
+            return toBooking(best);
+        }
+
+        private ItemDtoWithBooking.Booking toBooking(int position) {
+            return position < 0 ? null : new ItemDtoWithBooking.Booking(ids[position], bookerIds[position]);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.item.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.UserPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/items")
+@RequiredArgsConstructor
+public class ItemController {
+
+    @Autowired
+    private final ItemService itemService;
+
+    @PostMapping
+    public ItemDto createItem(UserPrincipal user, @RequestBody ItemDto itemDto) {
+        return itemService.createItem(itemDto, user);
+    }
+
+    @PatchMapping("/{id}")
+    public ItemDto updateItem(UserPrincipal user,
+                              @RequestBody ItemDto itemDto, @PathVariable Long id) {
+        return itemService.updateItem(itemDto, id, user);
+    }
+
+    @GetMapping("/{id}")
+    public ItemDtoWithBooking getItemById(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                          @PathVariable Long id) {
+        return itemService.getItemById(id, userId);
+    }
+
+    @GetMapping("/{id}/availability")
+    public ItemAvailabilityDto getItemAvailability(@PathVariable Long id,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                   LocalDateTime start,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                   LocalDateTime end) {
+        return itemService.getItemAvailability(id, start, end);
+    }
+
+    @GetMapping
+    public List<ItemDtoWithBooking> retrieveAllItem(@RequestHeader("X-Sharer-User-Id") Long userId) {
+        return itemService.retrieveAllItemByUserId(userId);
+    }
+
+
+    @GetMapping("/search")
+    public List<ItemDto> searchItemByKeyword(@RequestParam(name = "text", defaultValue = "") String keyword,
+                                             @RequestParam(required = false, defaultValue = "0") Integer from,
+                                             @RequestParam(required = false, defaultValue = "10") Integer size,
+                                             @RequestParam(required = false)
+                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                             @RequestParam(required = false)
+                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        return itemService.searchItemByKeyword(keyword, from, size, start, end);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public CommentDto addComment(UserPrincipal user,
+                                 @PathVariable Long itemId, @RequestBody CommentDto commentDto) {
+        return itemService.addComment(itemId, user, commentDto);
+    }
+}
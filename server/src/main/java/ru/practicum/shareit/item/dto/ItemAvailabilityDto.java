@@ -0,0 +1,33 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Свободные интервалы вещи внутри запрошенного окна [start, end): в каждый из них можно
+ * забронировать вещь, не пересекаясь с ожидающими и подтвержденными бронированиями.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemAvailabilityDto {
+
+    private Long itemId;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private List<Interval> free;
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Interval {
+        private LocalDateTime start;
+        private LocalDateTime end;
+    }
+}
@@ -1,9 +1,12 @@
 package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.user.UserPrincipal;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -12,20 +15,20 @@ public interface ItemService {
      * Метод создания премета
      *
      * @param itemDto экземпляр сущности предмета-дто, которые создается
-     * @param user    экземпляр сущности владельца предмета
+     * @param owner   владелец предмета
      * @return экземпляр созданного предмета
      */
-    ItemDto createItem(ItemDto itemDto, Long user);
+    ItemDto createItem(ItemDto itemDto, UserPrincipal owner);
 
     /**
      * Метод обновления существующего предмета
      *
      * @param itemDto экземпляр сущности предмета-дто, который обновляется
      * @param itemId  ID предмета
-     * @param ownerId ID владельца предмета
+     * @param owner   владелец предмета
      * @return экземпляр обновленного предмета
      */
-    ItemDto updateItem(ItemDto itemDto, Long itemId, Long ownerId);
+    ItemDto updateItem(ItemDto itemDto, Long itemId, UserPrincipal owner);
 
     /**
      * Метод получения предмета по ID
@@ -36,6 +39,16 @@ public interface ItemService {
      */
     ItemDtoWithBooking getItemById(Long itemId, Long userId);
 
+    /**
+     * Метод получения свободных интервалов предмета
+     *
+     * @param itemId ID предмета
+     * @param start  начало окна
+     * @param end    конец окна
+     * @return свободные интервалы предмета внутри окна, пустой список для недоступного предмета
+     */
+    ItemAvailabilityDto getItemAvailability(Long itemId, LocalDateTime start, LocalDateTime end);
+
     /**
      * Метод получения предметов пользователя
      *
@@ -48,17 +61,21 @@ public interface ItemService {
      * Метод поиска предмета по ключевому слову
      *
      * @param keyword ключевое слово
-     * @return список экземпляров предметов-дто, которые содержат ключевое слово
+     * @param from    для пагинации
+     * @param size    для пагинации
+     * @param start   начало периода, в который предмет должен быть свободен, или null
+     * @param end     конец периода, в который предмет должен быть свободен, или null
+     * @return список экземпляров предметов-дто, которые содержат ключевое слово, по убыванию релевантности
      */
-    List<ItemDto> searchItemByKeyword(String keyword);
+    List<ItemDto> searchItemByKeyword(String keyword, int from, int size, LocalDateTime start, LocalDateTime end);
 
     /**
      * Метод добавления отзыва
      *
      * @param itemId     ID предмета
-     * @param userId     ID пользователя, кто оставляет запись
+     * @param author     пользователь, кто оставляет запись
      * @param commentDto экземляр сущности commentDto
      * @return экземляр сущности созданного отзыва
      */
-    CommentDto addComment(Long itemId, Long userId, CommentDto commentDto);
+    CommentDto addComment(Long itemId, UserPrincipal author, CommentDto commentDto);
 }
@@ -0,0 +1,280 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.booking.BookedItemsIndex;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.CommentMapper;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemSearchIndex;
+import ru.practicum.shareit.item.ItemViewCache;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserPrincipal;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ItemServiceImpl implements ItemService {
+
+
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+
+    private final UserRepository userRepository;
+
+    private final ItemRequestRepository itemRequestRepository;
+
+    private final ItemSearchIndex itemSearchIndex;
+
+    private final ItemViewCache itemViewCache;
+
+    private final BookingIntervalIndex bookingIntervalIndex;
+
+    private final BookedItemsIndex bookedItemsIndex;
+
+    @Transactional
+    public ItemDto createItem(ItemDto itemDto, UserPrincipal principal) {
+
+        User owner = userRepository.getReferenceById(principal.getId());
+        Item item = ItemMapper.toItem(itemDto, owner);
+
+        validate(item);
+        item.setOwner(owner);
+
+        if (item.getRequest() != null) {
+            ItemRequest itemRequest = itemRequestRepository.findById(item.getRequest().getId())
+                    .orElseThrow(() -> new NotFoundException("Request not found"));
+            item.setRequest(itemRequest);
+        }
+        if (item.getId() != null) {
+            // вещь с ID существующей по-прежнему перезаписывается; версия берется текущая, иначе слияние
+            // отсоединенной копии с нулевой версией завершится конфликтом
+            itemRepository.findById(item.getId()).ifPresent(existing -> item.setVersion(existing.getVersion()));
+        }
+        Item savedItem = itemRepository.save(item);
+        updateSearchIndex(savedItem);
+        if (item.getId() != null) {
+            itemViewCache.evictItem(savedItem.getId());
+        }
+        log.info("Create Item with ID {}", savedItem.getId());
+
+        return ItemMapper.toItemDto(savedItem);
+    }
+
+    @Transactional
+    public ItemDto updateItem(ItemDto itemDto, Long itemId, UserPrincipal owner) {
+
+        Item item = ItemMapper.toItem(itemDto, userRepository.getReferenceById(owner.getId()));
+
+        Item updatedItem = getItemValid(item, itemId, owner.getId());
+        log.info("Updated item with ID {}", itemId);
+        itemRepository.save(updatedItem);
+        updateSearchIndex(updatedItem);
+        itemViewCache.evictItem(itemId);
+
+        return ItemMapper.toItemDto(updatedItem);
+    }
+
+    @Transactional
+    public ItemDtoWithBooking getItemById(Long itemId, Long userId) {
+
+        ItemViewCache.CachedItem item = itemViewCache.getItem(itemId, this::loadItemView);
+
+        if (userId.equals(item.getOwnerId())) {
+            ItemViewCache.BookingTimeline bookings = itemViewCache.getBookings(itemId,
+                    id -> new ItemViewCache.BookingTimeline(bookingRepository.findIntervalsByItemId(id)));
+            LocalDateTime localDateTime = LocalDateTime.now();
+            return ItemMapper.toItemDtoWithBooking(item.getView(),
+                    bookings.last(localDateTime), bookings.next(localDateTime));
+        } else {
+            return item.getView();
+        }
+    }
+
+    /*
+     * Вещь берется из кэша GET /items/{id}, интервалы - из индекса бронирований,
+     * так что при прогретом кэше запросов к БД нет.
+     */
+    @Transactional
+    public ItemAvailabilityDto getItemAvailability(Long itemId, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || !end.isAfter(start)) {
+            throw new ValidationException("start and end are required and end has to be after start");
+        }
+        ItemViewCache.CachedItem item = itemViewCache.getItem(itemId, this::loadItemView);
+        List<ItemAvailabilityDto.Interval> free = Boolean.TRUE.equals(item.getView().getAvailable())
+                ? bookingIntervalIndex.freeIntervals(itemId, start, end)
+                : List.of();
+        return new ItemAvailabilityDto(itemId, start, end, free);
+    }
+
+    @Transactional
+    public List<ItemDtoWithBooking> retrieveAllItemByUserId(Long ownerId) {
+        List<Item> items = new ArrayList<>(itemRepository.findByOwnerIdOrderByIdAsc(ownerId));
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, ItemBookingView> lastBookings = new HashMap<>();
+        Map<Long, ItemBookingView> nextBookings = new HashMap<>();
+        for (ItemBookingView booking : bookingRepository.findLastAndNextByItemIds(itemIds, LocalDateTime.now())) {
+            if (booking.getLastBooking()) {
+                lastBookings.put(booking.getItemId(), booking);
+            } else {
+                nextBookings.put(booking.getItemId(), booking);
+            }
+        }
+        Map<Long, List<Comment>> comments = commentRepository.findByItemIdsWithAuthors(itemIds)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
+
+        return items.stream()
+                .map(item -> ItemMapper.toItemDtoWithBooking(
+                        comments.getOrDefault(item.getId(), List.of()),
+                        lastBookings.get(item.getId()),
+                        nextBookings.get(item.getId()),
+                        item))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public List<ItemDto> searchItemByKeyword(String keyword, int from, int size,
+                                             LocalDateTime start, LocalDateTime end) {
+
+        if (size <= 0 || from < 0) {
+            throw new ValidationException("size and from have to positive");
+        }
+        if ((start == null) != (end == null) || (start != null && !end.isAfter(start))) {
+            throw new ValidationException("start and end have to be set together and end has to be after start");
+        }
+        if (keyword.isBlank() || keyword.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> itemIds = start == null
+                ? itemSearchIndex.search(keyword, from, size)
+                : itemSearchIndex.search(keyword, from, size, bookedItemsIndex.freeBetween(start, end));
+        if (itemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Item> items = itemRepository.findAllById(itemIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return itemIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .map(ItemMapper::toItemDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public CommentDto addComment(Long itemId, UserPrincipal author, CommentDto commentDto) {
+
+        if (commentDto.getText().isEmpty() || commentDto.getText().isBlank()) {
+            throw new ValidationException("Empty comment is prohibited");
+        }
+
+        User user = userRepository.getReferenceById(author.getId());
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException(String.format("Item with ID %s not found", itemId)));
+        Comment comment = CommentMapper.toComment(commentDto, item, user);
+
+        List<Booking> booking = bookingRepository.findByBookerIdStatePast(comment.getUser().getId(),
+                LocalDateTime.now());
+
+        if (booking.isEmpty()) {
+            throw new ValidationException("User didn't booked anything");
+        }
+
+        comment.setCreated(LocalDateTime.now());
+        commentRepository.save(comment);
+        itemViewCache.evictItem(itemId);
+        log.info("Create Comment with ID {}", comment.getId());
+
+        return CommentMapper.toCommentDto(comment);
+    }
+
+    public List<Comment> getCommentsByItemId(Item item) {
+        return commentRepository.findByItem_IdOrderByCreatedDesc(item.getId());
+    }
+
+    private ItemViewCache.CachedItem loadItemView(Long itemId) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException(String.format("Item with ID %s not found", itemId)));
+        List<Comment> commentList = getCommentsByItemId(item);
+        return new ItemViewCache.CachedItem(item.getOwner().getId(), ItemMapper.toItemDtoWithBooking(commentList, item));
+    }
+
+    private void updateSearchIndex(Item item) {
+        long itemId = item.getId();
+        String name = item.getName();
+        String description = item.getDescription();
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+        TransactionCallbacks.afterCommit(() -> itemSearchIndex.index(itemId, name, description, available));
+    }
+
+    private void validate(Item item) {
+        if (item.getDescription() == null) {
+            throw new ValidationException("Описание не может быть пустым");
+        }
+        if (item.getName().isBlank()) {
+            throw new ValidationException("Название предмета не может быть пустым");
+        }
+        if (item.getAvailable() == null) {
+            throw new ValidationException("Статус доступа не может быть пустым");
+        }
+
+    }
+
+    private Item getItemValid(Item item, Long itemId, Long userId) {
+
+        Item updatedItem = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException(String.format("Item with ID %s not found", itemId)));
+
+        if (!updatedItem.getOwner().getId().equals(userId))
+            throw new NotFoundException("Предмет не доступен для брони");
+
+        String updatedDescription = item.getDescription();
+        if (updatedDescription != null && !updatedDescription.isBlank()) {
+            updatedItem.setDescription(updatedDescription);
+        }
+        String updatedName = item.getName();
+        if (updatedName != null && !updatedName.isBlank()) {
+            updatedItem.setName(updatedName);
+        }
+        if (item.getAvailable() != null) {
+            updatedItem.setAvailable(item.getAvailable());
+        }
+        return updatedItem;
+    }
+}
@@ -42,4 +42,14 @@ public class ItemRequestMapper {
                 .build();
 
     }
+
+    public static ItemRequestDto toItemRequestDtoWithItems(ItemRequest itemRequest,
+                                                           List<ItemRequestDto.ItemDto> items) {
+        return ItemRequestDto.builder()
+                .id(itemRequest.getId())
+                .description(itemRequest.getDescription())
+                .created(itemRequest.getCreated())
+                .items(items)
+                .build();
+    }
 }
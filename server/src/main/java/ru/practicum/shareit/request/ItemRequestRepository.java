@@ -0,0 +1,28 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
+
+    @Query("select r from ItemRequest r where r.requester.id = :userId order by r.created")
+    List<ItemRequest> findByRequester_IdOrderByCreatedAsc(@Param("userId") Long userId);
+
+    List<ItemRequest> findByRequester_IdNot(Long userId, Pageable pageable);
+
+    /**
+     * Вещи, созданные в ответ на запросы, сразу в виде ItemRequestDto.ItemDto: выбираются только нужные колонки,
+     * без загрузки владельца и самого запроса. Строки упорядочены по запросу, поэтому вещи одного запроса идут подряд.
+     */
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestDto$ItemDto(" +
+            "i.id, i.name, i.description, i.available, i.request.id) " +
+            "from Item i where i.request.id in (:requestIds) order by i.request.id, i.id")
+    List<ItemRequestDto.ItemDto> findItemsByRequestIds(@Param("requestIds") Collection<Long> requestIds);
+}
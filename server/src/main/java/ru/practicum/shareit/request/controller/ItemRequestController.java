@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.UserPrincipal;
 
 import java.util.List;
 
@@ -16,19 +17,19 @@ public class ItemRequestController {
     private final ItemRequestService itemRequestService;
 
     @PostMapping
-    public ItemRequestDto createItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
+    public ItemRequestDto createItemRequest(UserPrincipal user,
                                             @RequestBody ItemRequestDto itemRequestDto) {
-        return itemRequestService.createItemRequest(userId, itemRequestDto);
+        return itemRequestService.createItemRequest(user, itemRequestDto);
     }
 
     @GetMapping()
-    public List<ItemRequestDto> getAllMyItemRequest(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        return itemRequestService.getAllMyItemRequest(userId);
+    public List<ItemRequestDto> getAllMyItemRequest(UserPrincipal user) {
+        return itemRequestService.getAllMyItemRequest(user);
     }
 
     @GetMapping("/{id}")
-    public ItemRequestDto getItemRequestById(@RequestHeader("X-Sharer-User-Id") long userId, @PathVariable Long id) {
-        return itemRequestService.getItemRequestById(userId, id);
+    public ItemRequestDto getItemRequestById(UserPrincipal user, @PathVariable Long id) {
+        return itemRequestService.getItemRequestById(user, id);
     }
 
     @GetMapping("/all")
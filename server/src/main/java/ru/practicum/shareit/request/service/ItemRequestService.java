@@ -1,6 +1,7 @@
 package ru.practicum.shareit.request.service;
 
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.UserPrincipal;
 
 import java.util.List;
 
@@ -12,15 +13,15 @@ public interface ItemRequestService {
      * @param itemRequestDto экземляр сущности запроса-дто, который создается
      * @return созданный экземляр сущности запроса
      */
-    ItemRequestDto createItemRequest(Long userId, ItemRequestDto itemRequestDto);
+    ItemRequestDto createItemRequest(UserPrincipal requester, ItemRequestDto itemRequestDto);
 
     /**
      * Метод получения всех своих запросов
      *
-     * @param userId ID того, кто запрашивает
+     * @param requester тот, кто запрашивает
      * @return отсортированный по возрастанию список собственных запросов
      */
-    List<ItemRequestDto> getAllMyItemRequest(Long userId);
+    List<ItemRequestDto> getAllMyItemRequest(UserPrincipal requester);
 
     /**
      * Метод получения запроса вещи по идентификатору запроса
@@ -28,7 +29,7 @@ public interface ItemRequestService {
      * @param itemRequestId ID запроса
      * @return экземляр сущности-запроса
      */
-    ItemRequestDto getItemRequestById(Long userId, Long itemRequestId);
+    ItemRequestDto getItemRequestById(UserPrincipal user, Long itemRequestId);
 
     /**
      * Постраничный поиск
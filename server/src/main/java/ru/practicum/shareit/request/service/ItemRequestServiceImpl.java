@@ -13,10 +13,14 @@ import ru.practicum.shareit.request.ItemRequestMapper;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.UserPrincipal;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
+import javax.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,10 +35,10 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRepository itemRepository;
 
     @Override
-    public ItemRequestDto createItemRequest(Long userId, ItemRequestDto itemRequestDto) {
+    @Transactional
+    public ItemRequestDto createItemRequest(UserPrincipal requester, ItemRequestDto itemRequestDto) {
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(String.format("User with ID %s not found", userId)));
+        User user = userRepository.getReferenceById(requester.getId());
         ItemRequest itemRequest = ItemRequestMapper.toItemRequest(itemRequestDto, user);
         validate(itemRequest);
         itemRequest.setCreated(LocalDateTime.now());
@@ -44,24 +48,15 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
-    public List<ItemRequestDto> getAllMyItemRequest(Long userId) {
+    public List<ItemRequestDto> getAllMyItemRequest(UserPrincipal requester) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(String.format("User with ID %s not found", userId)));
+        List<ItemRequest> itemRequests = itemRequestRepository.findByRequester_IdOrderByCreatedAsc(requester.getId());
 
-        List<ItemRequest> itemRequests = itemRequestRepository.findByRequester_IdOrderByCreatedAsc(userId);
-        List<Item> items = itemRequestRepository.findItemsByListOfRequests(itemRequests);
-
-        return itemRequests.stream()
-                .map(e -> ItemRequestMapper.toItemRequestDto(e, items))
-                .collect(Collectors.toList());
+        return toItemRequestDtos(itemRequests);
     }
 
     @Override
-    public ItemRequestDto getItemRequestById(Long userId, Long itemRequestId) {
-
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(String.format("User with ID %s not found", userId)));
+    public ItemRequestDto getItemRequestById(UserPrincipal user, Long itemRequestId) {
 
         ItemRequest itemRequest = itemRequestRepository.findById(itemRequestId)
                 .orElseThrow(() -> new NotFoundException(String.format("ItemRequest with ID %s not found", itemRequestId)));
@@ -78,10 +73,21 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
         List<ItemRequest> itemRequests = itemRequestRepository.findByRequester_IdNot(userId,
                 PageRequest.of(from / size, size, Sort.by("created").descending()));
-        List<Item> items = itemRequestRepository.findItemsByListOfRequests(itemRequests);
+
+        return toItemRequestDtos(itemRequests);
+    }
+
+    private List<ItemRequestDto> toItemRequestDtos(List<ItemRequest> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> requestIds = itemRequests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList());
+        ItemsByRequest items = new ItemsByRequest(itemRequestRepository.findItemsByRequestIds(requestIds));
 
         return itemRequests.stream()
-                .map(e -> ItemRequestMapper.toItemRequestDto(e, items))
+                .map(e -> ItemRequestMapper.toItemRequestDtoWithItems(e, items.get(e.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -92,4 +98,40 @@ public class ItemRequestServiceImpl implements ItemRequestService {
             throw new ValidationException("Description has to be not empty");
         }
     }
+
+    /**
+     * Вещи, сгруппированные по ID запроса. Вход упорядочен по requestId, поэтому группа задается
+     * отрезком [offsets[k], offsets[k + 1]) исходного списка, а поиск группы выполняется бинарным поиском по keys.
+     */
+    private static final class ItemsByRequest {
+
+        private final List<ItemRequestDto.ItemDto> items;
+        private final long[] keys;
+        private final int[] offsets;
+
+        ItemsByRequest(List<ItemRequestDto.ItemDto> items) {
+            this.items = items;
+            long[] keys = new long[items.size()];
+            int[] offsets = new int[items.size() + 1];
+            int groups = 0;
+            for (int i = 0; i < items.size(); i++) {
+                long requestId = items.get(i).getRequestId();
+                if (groups == 0 || keys[groups - 1] != requestId) {
+                    keys[groups] = requestId;
+                    offsets[groups++] = i;
+                }
+            }
+            offsets[groups] = items.size();
+            this.keys = Arrays.copyOf(keys, groups);
+            this.offsets = Arrays.copyOf(offsets, groups + 1);
+        }
+
+        List<ItemRequestDto.ItemDto> get(long requestId) {
+            int group = Arrays.binarySearch(keys, requestId);
+            if (group < 0) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(items.subList(offsets[group], offsets[group + 1]));
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.user.model.UserEmailView;
+import ru.practicum.shareit.util.BloomFilter;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Предварительная проверка занятости email перед вставкой и сменой email. Адреса хранятся в фильтре Блума
+ * в нормализованном виде (без пробелов по краям, в нижнем регистре): отрицательный ответ означает, что адрес
+ * свободен и проверять его в БД не нужно, положительный подтверждается точным запросом existsByEmail.
+ * Адрес добавляется до вставки, поэтому откат или удаление пользователя дают лишь лишнюю проверку в БД.
+ * Пока фильтр строится, любой адрес считается возможно занятым. Окончательно уникальность
+ * обеспечивает ограничение в БД.
+ */
+@Slf4j
+@Component
+public class EmailIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+
+    private volatile BloomFilter emails;
+    private volatile BloomFilter building;
+
+    public EmailIndex(UserRepository userRepository,
+                      @Value("${shareit.email-index.expected-users:1000000}") long expectedUsers) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+    }
+
+    /**
+     * Размер фильтра берется с запасом в два раза от текущего числа пользователей, но не меньше ожидаемого.
+     */
+    @PostConstruct
+    public synchronized void rebuild() {
+        BloomFilter filter = new BloomFilter(Math.max(expectedUsers, 2 * userRepository.count()), FALSE_POSITIVE_RATE);
+        building = filter;
+        long lastId = 0;
+        long count = 0;
+        List<UserEmailView> chunk;
+        do {
+            chunk = userRepository.findEmailsAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (UserEmailView user : chunk) {
+                filter.add(normalize(user.getEmail()));
+                lastId = user.getId();
+            }
+            count += chunk.size();
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        emails = filter;
+        building = null;
+        log.info("Email index is built with {} emails in {} bits", count, filter.bitSize());
+    }
+
+    public boolean mightExist(String email) {
+        BloomFilter filter = emails;
+        return building != null || filter == null || filter.mightContain(normalize(email));
+    }
+
+    public void add(String email) {
+        String normalized = normalize(email);
+        BloomFilter filter = emails;
+        if (filter != null) {
+            filter.add(normalized);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.add(normalized);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.NotFoundException;
+
+/**
+ * Проверка существования пользователя для UserPrincipal: сначала по индексу ID пользователей,
+ * при промахе - в БД. Существующий пользователь почти всегда находится в индексе без запроса к БД.
+ */
+@Component
+@RequiredArgsConstructor
+public class KnownUsers {
+
+    private final UserRepository userRepository;
+    private final UserExistenceIndex userExistenceIndex;
+
+    public UserPrincipal resolve(long userId) {
+        if (!userExistenceIndex.contains(userId) && !userRepository.existsById(userId)) {
+            throw new NotFoundException(String.format("User with ID %s not found", userId));
+        }
+        return new UserPrincipal(userId);
+    }
+}
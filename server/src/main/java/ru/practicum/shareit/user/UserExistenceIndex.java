@@ -0,0 +1,101 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.util.CompressedBitmap;
+import ru.practicum.shareit.util.TransactionCallbacks;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Множество ID существующих пользователей в сжатой битовой карте: 2 байта на ID в разреженных блоках
+ * и 1 бит в плотных, так что 10 млн последовательных ID занимают около 1,2 МБ.
+ * Карта загружается при старте порциями по ID, изменения применяются после фиксации транзакции.
+ * Отсутствие в карте не означает, что пользователя нет: карта может быть еще не загружена, пользователь -
+ * не зафиксирован, а ID - не помещаться в int. Промахи проверяет в БД KnownUsers.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserExistenceIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private CompressedBitmap userIds = new CompressedBitmap();
+
+    @PostConstruct
+    public void rebuild() {
+        CompressedBitmap ids = new CompressedBitmap();
+        long lastId = 0;
+        List<Long> chunk;
+        do {
+            chunk = userRepository.findIdsAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (long id : chunk) {
+                if (id <= Integer.MAX_VALUE) {
+                    ids.add((int) id);
+                }
+                lastId = id;
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        lock.writeLock().lock();
+        try {
+            userIds = ids;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("User existence index is built with {} users", ids.cardinality());
+    }
+
+    public boolean contains(long userId) {
+        if (userId <= 0 || userId > Integer.MAX_VALUE) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return userIds.contains((int) userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(long userId) {
+        TransactionCallbacks.afterCommit(() -> update(userId, true));
+    }
+
+    public void remove(long userId) {
+        TransactionCallbacks.afterCommit(() -> update(userId, false));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return userIds.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(long userId, boolean exists) {
+        if (userId <= 0 || userId > Integer.MAX_VALUE) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (exists) {
+                userIds.add((int) userId);
+            } else {
+                userIds.remove((int) userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.user;
+
+import lombok.Value;
+
+/**
+ * Пользователь, от имени которого выполняется запрос. Создается при разборе заголовка X-Sharer-User-Id
+ * после проверки, что пользователь существует, поэтому сервисам не нужно загружать его повторно.
+ */
+@Value
+public class UserPrincipal {
+
+    long id;
+}
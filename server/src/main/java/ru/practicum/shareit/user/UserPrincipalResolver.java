@@ -0,0 +1,46 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import ru.practicum.shareit.exception.ValidationException;
+
+/**
+ * Разбирает заголовок X-Sharer-User-Id в параметр контроллера типа UserPrincipal,
+ * проверяя существование пользователя один раз на запрос.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalResolver implements HandlerMethodArgumentResolver {
+
+    public static final String USER_HEADER = "X-Sharer-User-Id";
+
+    private final KnownUsers knownUsers;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return UserPrincipal.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory)
+            throws MissingRequestHeaderException {
+        String header = webRequest.getHeader(USER_HEADER);
+        if (header == null) {
+            throw new MissingRequestHeaderException(USER_HEADER, parameter);
+        }
+        long userId;
+        try {
+            userId = Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            throw new ValidationException(String.format("Invalid %s: %s", USER_HEADER, header));
+        }
+        return knownUsers.resolve(userId);
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.user;
+
+import ru.practicum.shareit.user.model.UserDto;
+
+import java.util.function.Consumer;
+
+public interface UserQueryRepository {
+
+    /**
+     * Метод обхода всех пользователей по возрастанию ID курсором JDBC, без загрузки сущностей
+     * @param action вызывается для каждого пользователя по мере чтения строк
+     */
+    void forEachUser(Consumer<UserDto> action);
+}
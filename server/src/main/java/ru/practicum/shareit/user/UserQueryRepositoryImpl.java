@@ -0,0 +1,31 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.user.model.UserDto;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * Строки читаются порциями по fetch size и сразу передаются дальше, так что память не зависит от числа
+ * пользователей. PostgreSQL держит курсор только внутри транзакции, вне ее драйвер читает результат целиком.
+ */
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserQueryRepositoryImpl(DataSource dataSource,
+                                   @Value("${shareit.users.stream-fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public void forEachUser(Consumer<UserDto> action) {
+        jdbcTemplate.query("SELECT id, name, email FROM users ORDER BY id", resultSet -> {
+            action.accept(new UserDto(resultSet.getLong("id"), resultSet.getString("name"),
+                    resultSet.getString("email")));
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserEmailView;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRepository extends JpaRepository<User, Long>, UserQueryRepository {
+
+    Optional<User> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(long after, Pageable pageable);
+
+    @Query("select u.id from User u where u.id > :after order by u.id")
+    List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("select u.id as id, u.email as email from User u where u.id > :after order by u.id")
+    List<UserEmailView> findEmailsAfter(@Param("after") long after, Pageable pageable);
+}
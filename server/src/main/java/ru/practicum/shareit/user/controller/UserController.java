@@ -0,0 +1,94 @@
+package ru.practicum.shareit.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.user.model.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.PagingHeaders;
+
+import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@RestController
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    @Autowired
+    private final UserService userService;
+
+    private final ObjectMapper objectMapper;
+
+    @PostMapping
+    public UserDto createUser(@RequestBody @Valid UserDto userDto) {
+        return userService.createUser(userDto);
+    }
+
+    @PatchMapping("/{id}")
+    public UserDto updateUser(@RequestBody UserDto userDto, @PathVariable Long id) {
+        return userService.updateUser(id, userDto);
+    }
+
+
+    @GetMapping("/{id}")
+    public UserDto getUserById(@PathVariable Long id) {
+        return userService.getUserById(id);
+    }
+
+    /**
+     * Страница пользователей по возрастанию ID: по смещению, если задан from, иначе после ID after
+     * (по умолчанию с начала). Все пользователи целиком отдаются только потоком /users/stream.
+     */
+    @GetMapping
+    public ResponseEntity<List<UserDto>> retrieveAllUsers(@RequestParam(required = false) Integer from,
+                                                          @RequestParam(required = false) Integer size,
+                                                          @RequestParam(required = false) Long after) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (from != null && after == null) {
+            return ResponseEntity.ok(userService.retrieveUsers(from, pageSize));
+        }
+        return withNextCursor(userService.retrieveUsersAfter(after == null ? 0 : after, pageSize), pageSize);
+    }
+
+    /**
+     * Все пользователи в формате NDJSON, по строке на пользователя. Строки пишутся в ответ по мере
+     * чтения из БД, поэтому память не растет с числом пользователей.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = outputStream -> userService.streamAllUsers(userDto -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(userDto));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @DeleteMapping(value = "/{id}")
+    public void removeUserById(@PathVariable Long id) {
+        userService.removeUserById(id);
+    }
+
+    private ResponseEntity<List<UserDto>> withNextCursor(List<UserDto> users, int size) {
+        if (users.isEmpty() || users.size() < size) {
+            return ResponseEntity.ok(users);
+        }
+        return ResponseEntity.ok()
+                .header(PagingHeaders.NEXT_CURSOR, String.valueOf(users.get(users.size() - 1).getId()))
+                .body(users);
+    }
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.user.service;
 import ru.practicum.shareit.user.model.UserDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
 
@@ -39,9 +40,27 @@ public interface UserService {
     UserDto getUserById(Long userId);
 
     /**
-     * Метод возврата всех пользователей
+     * Метод возврата страницы пользователей по смещению
      *
+     * @param from индекс первого пользователя в порядке возрастания ID
+     * @param size размер страницы
      * @return список экземляров пользователей-дто
      */
-    List<UserDto> retrieveAllUsers();
+    List<UserDto> retrieveUsers(int from, int size);
+
+    /**
+     * Метод возврата страницы пользователей с ID больше заданного
+     *
+     * @param after ID последнего пользователя предыдущей страницы
+     * @param size  размер страницы
+     * @return список экземляров пользователей-дто
+     */
+    List<UserDto> retrieveUsersAfter(long after, int size);
+
+    /**
+     * Метод передачи всех пользователей по одному, без накопления списка
+     *
+     * @param action вызывается для каждого пользователя в порядке возрастания ID
+     */
+    void streamAllUsers(Consumer<UserDto> action);
 }
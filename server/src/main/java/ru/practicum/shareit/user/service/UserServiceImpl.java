@@ -0,0 +1,151 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.exception.ExistsElementException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.user.EmailIndex;
+import ru.practicum.shareit.user.UserExistenceIndex;
+import ru.practicum.shareit.user.UserMapper;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserDto;
+import ru.practicum.shareit.util.OffsetPageRequest;
+
+import javax.transaction.Transactional;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserServiceImpl implements UserService {
+
+
+    @Autowired
+    private final UserRepository userRepository;
+
+    private final UserExistenceIndex userExistenceIndex;
+
+    private final EmailIndex emailIndex;
+
+    @Transactional
+    public UserDto createUser(UserDto userDto) {
+        User user = UserMapper.toUser(userDto);
+        if (user.getEmail() != null) {
+            if (isEmailTaken(user.getEmail(), user.getId())) {
+                log.warn("User with email {} exists", user.getEmail());
+                throw new ExistsElementException("User exists");
+            }
+            emailIndex.add(user.getEmail());
+            try {
+                log.info("User with email {} was created", user.getEmail());
+                User createdUser = userRepository.saveAndFlush(user);
+                userExistenceIndex.add(createdUser.getId());
+                return UserMapper.toUserDto(createdUser);
+            } catch (RuntimeException e) {
+                log.warn("User with email {} exists", user.getEmail());
+                throw new ExistsElementException("User exists");
+            }
+
+        } else {
+            throw new ValidationException("Email not found");
+        }
+    }
+
+    @Transactional
+    public UserDto updateUser(Long userId, UserDto userDto) {
+        User userFromDto = UserMapper.toUser(userDto);
+        User updatedUser = getUserValid(userId, userFromDto);
+        log.info("Updated user {}", userFromDto);
+        try {
+            userRepository.saveAndFlush(updatedUser);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("User with email {} exists", updatedUser.getEmail());
+            throw new ExistsElementException("User exists");
+        }
+        return UserMapper.toUserDto(updatedUser);
+    }
+
+    @Transactional
+    public void removeUserById(Long userId) {
+        userRepository.delete(getUser(userId));
+        userExistenceIndex.remove(userId);
+    }
+
+    public UserDto getUserById(Long userId) {
+        return UserMapper.toUserDto(getUser(userId));
+    }
+
+    public List<UserDto> retrieveUsers(int from, int size) {
+        validatePage(from, size);
+        return userRepository.findAll(OffsetPageRequest.of(from, size, Sort.by("id")))
+                .stream()
+                .map(UserMapper::toUserDto)
+                .collect(Collectors.toList());
+    }
+
+    public List<UserDto> retrieveUsersAfter(long after, int size) {
+        validatePage(0, size);
+        return userRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, size))
+                .stream()
+                .map(UserMapper::toUserDto)
+                .collect(Collectors.toList());
+    }
+
+    /*
+     * Транзакция нужна PostgreSQL, чтобы драйвер читал результат курсором порциями по fetch size.
+     */
+    @Transactional
+    public void streamAllUsers(Consumer<UserDto> action) {
+        userRepository.forEachUser(action);
+    }
+
+    private void validatePage(int from, int size) {
+        if (size <= 0 || from < 0) {
+            throw new ValidationException("size and from have to positive");
+        }
+    }
+
+    private User getUserValid(long userId, User user) {
+        User updatedUser = getUser(userId);
+
+        String updatedName = user.getName();
+        if (updatedName != null && !updatedName.isBlank())
+            updatedUser.setName(updatedName);
+
+        String updatedEmail = user.getEmail();
+        if (updatedEmail != null && !updatedEmail.isBlank()) {
+
+            if (emailIndex.mightExist(updatedEmail) && userRepository.findByEmail(updatedEmail).isPresent()) {
+                throw new ExistsElementException("User exists");
+            }
+
+            emailIndex.add(updatedEmail);
+            updatedUser.setEmail(updatedEmail);
+        }
+        return updatedUser;
+    }
+
+    /*
+     * Пользователь с тем же ID и тем же email не считается дубликатом: вставка с ID существующего
+     * пользователя перезаписывает его.
+     */
+    private boolean isEmailTaken(String email, Long userId) {
+        return emailIndex.mightExist(email) && userRepository.findByEmail(email)
+                .filter(existing -> !existing.getId().equals(userId))
+                .isPresent();
+    }
+
+    private User getUser(long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException(String.format("User with ID %s not found", userId)));
+    }
+}
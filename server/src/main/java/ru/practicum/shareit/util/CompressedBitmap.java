@@ -0,0 +1,292 @@
+package ru.practicum.shareit.util;
+
+import java.util.Arrays;
+
+/**
+ * Сжатое множество неотрицательных int по схеме Roaring: значения делятся на блоки по старшим 16 битам,
+ * блок хранит младшие 16 бит либо отсортированным массивом char (до ARRAY_LIMIT значений),
+ * либо битовой картой на 65536 бит. Разреженные блоки занимают по 2 байта на значение, плотные - 8 КБ,
+ * а объединение и проверка вхождения работают поблочно.
+ * Класс не потокобезопасен.
+ */
+public class CompressedBitmap {
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private int[] keys = new int[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public void add(int value) {
+        int key = key(value);
+        int position = Arrays.binarySearch(keys, 0, size, key);
+        if (position >= 0) {
+            containers[position] = containers[position].add(low(value));
+        } else {
+            insert(-position - 1, key, new ArrayContainer().add(low(value)));
+        }
+    }
+
+    public void remove(int value) {
+        int position = Arrays.binarySearch(keys, 0, size, key(value));
+        if (position < 0) {
+            return;
+        }
+        Container container = containers[position].remove(low(value));
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(containers, position + 1, containers, position, size - position - 1);
+            containers[--size] = null;
+        } else {
+            containers[position] = container;
+        }
+    }
+
+    public boolean contains(int value) {
+        int position = Arrays.binarySearch(keys, 0, size, key(value));
+        return position >= 0 && containers[position].contains(low(value));
+    }
+
+    /**
+     * Добавляет в множество все значения other.
+     */
+    public void or(CompressedBitmap other) {
+        for (int i = 0; i < other.size; i++) {
+            int position = Arrays.binarySearch(keys, 0, size, other.keys[i]);
+            if (position >= 0) {
+                containers[position] = containers[position].or(other.containers[i]);
+            } else {
+                insert(-position - 1, other.keys[i], other.containers[i].copy());
+            }
+        }
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void insert(int position, int key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(containers, position, containers, position + 1, size - position);
+        keys[position] = key;
+        containers[position] = container;
+        size++;
+    }
+
+    private static int key(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must be non-negative");
+        }
+        return value >>> 16;
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    /**
+     * Блок младших 16 бит. Изменяющие операции возвращают блок, который заменяет текущий:
+     * массив превращается в битовую карту при переполнении и обратно при опустошении.
+     */
+    private interface Container {
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        Container or(Container other);
+
+        Container copy();
+
+        int cardinality();
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public Container add(char value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (size == ARRAY_LIMIT) {
+                return toBitmap().add(value);
+            }
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, size - position - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.copy().or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            char[] merged = new char[size + array.size];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < array.size) {
+                char next;
+                if (j == array.size || (i < size && values[i] < array.values[j])) {
+                    next = values[i++];
+                } else if (i == size || array.values[j] < values[i]) {
+                    next = array.values[j++];
+                } else {
+                    next = values[i++];
+                    j++;
+                }
+                merged[count++] = next;
+            }
+            if (count > ARRAY_LIMIT) {
+                BitmapContainer bitmap = new BitmapContainer();
+                for (int k = 0; k < count; k++) {
+                    bitmap.add(merged[k]);
+                }
+                return bitmap;
+            }
+            values = merged;
+            size = count;
+            return this;
+        }
+
+        @Override
+        public Container copy() {
+            ArrayContainer copy = new ArrayContainer();
+            copy.values = Arrays.copyOf(values, Math.max(4, size));
+            copy.size = size;
+            return copy;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public Container add(char value) {
+            long word = words[value >>> 6];
+            long updated = word | (1L << value);
+            if (updated != word) {
+                words[value >>> 6] = updated;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long word = words[value >>> 6];
+            long updated = word & ~(1L << value);
+            if (updated == word) {
+                return this;
+            }
+            words[value >>> 6] = updated;
+            cardinality--;
+            return cardinality > ARRAY_LIMIT ? this : toArray();
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.size; i++) {
+                    add(array.values[i]);
+                }
+                return this;
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            int updated = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= otherWords[i];
+                updated += Long.bitCount(words[i]);
+            }
+            cardinality = updated;
+            return this;
+        }
+
+        @Override
+        public Container copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, BITMAP_WORDS);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[cardinality];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.values[array.size++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
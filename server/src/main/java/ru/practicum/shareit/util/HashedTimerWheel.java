@@ -0,0 +1,120 @@
+package ru.practicum.shareit.util;
+
+import java.util.Arrays;
+
+/**
+ * Хешированное колесо таймеров: время делится на тики длиной tickMillis, таймер кладется в ячейку
+ * (тик срабатывания mod wheelSize). Постановка таймера стоит O(1), продвижение просматривает
+ * только ячейки пройденных тиков; таймеры дальше одного оборота колеса ждут в своей ячейке.
+ * Таймер никогда не срабатывает раньше срока и срабатывает не позже чем через тик после него.
+ * Класс не потокобезопасен.
+ */
+public class HashedTimerWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Bucket[] buckets;
+    private long nextTick;
+    private int size;
+
+    public HashedTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.nextTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Ставит таймер с идентификатором id. Просроченный таймер сработает при ближайшем продвижении.
+     */
+    public void schedule(long id, long deadlineMillis) {
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), nextTick);
+        buckets[(int) (tick & mask)].add(id, tick);
+        size++;
+    }
+
+    /**
+     * Продвигает колесо до момента nowMillis и возвращает идентификаторы сработавших таймеров.
+     */
+    public long[] advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        if (nowTick < nextTick) {
+            return new long[0];
+        }
+        Expired expired = new Expired();
+        if (nowTick - nextTick >= buckets.length) {
+            for (Bucket bucket : buckets) {
+                bucket.expire(nowTick, expired);
+            }
+        } else {
+            for (long tick = nextTick; tick <= nowTick; tick++) {
+                buckets[(int) (tick & mask)].expire(nowTick, expired);
+            }
+        }
+        nextTick = nowTick + 1;
+        size -= expired.size;
+        return expired.toArray();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static final class Bucket {
+
+        private long[] ids = new long[0];
+        private long[] ticks = new long[0];
+        private int size;
+
+        void add(long id, long tick) {
+            if (size == ids.length) {
+                int capacity = Math.max(4, size * 2);
+                ids = Arrays.copyOf(ids, capacity);
+                ticks = Arrays.copyOf(ticks, capacity);
+            }
+            ids[size] = id;
+            ticks[size] = tick;
+            size++;
+        }
+
+        void expire(long nowTick, Expired expired) {
+            int i = 0;
+            while (i < size) {
+                if (ticks[i] <= nowTick) {
+                    expired.add(ids[i]);
+                    size--;
+                    ids[i] = ids[size];
+                    ticks[i] = ticks[size];
+                } else {
+                    i++;
+                }
+            }
+        }
+    }
+
+    private static final class Expired {
+
+        private long[] ids = new long[16];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Выбор наибольшего набора попарно непересекающихся интервалов [start, end).
+ */
+public final class IntervalScheduling {
+
+    private IntervalScheduling() {
+    }
+
+    /**
+     * Наибольший по числу набор попарно непересекающихся интервалов из candidates, не пересекающихся
+     * ни с одним интервалом из fixed. Кандидаты, задевающие fixed, отсеиваются бинарным поиском
+     * по fixed, отсортированным по началу, оставшиеся выбираются жадно по раннему концу; всего O(n log n).
+     *
+     * @return выбранные кандидаты в порядке возрастания конца
+     */
+    public static <T> List<T> maxNonOverlapping(Collection<T> candidates, Collection<T> fixed,
+                                                Function<T, LocalDateTime> start, Function<T, LocalDateTime> end) {
+        List<T> blocked = new ArrayList<>(fixed);
+        blocked.sort(Comparator.comparing(start));
+        List<LocalDateTime> maxEnds = new ArrayList<>(blocked.size());
+        LocalDateTime maxEnd = null;
+        for (T interval : blocked) {
+            LocalDateTime intervalEnd = end.apply(interval);
+            maxEnd = maxEnd == null || intervalEnd.isAfter(maxEnd) ? intervalEnd : maxEnd;
+            maxEnds.add(maxEnd);
+        }
+
+        List<T> free = new ArrayList<>(candidates.size());
+        for (T candidate : candidates) {
+            int before = countStartsBefore(blocked, start, end.apply(candidate));
+            if (before == 0 || !maxEnds.get(before - 1).isAfter(start.apply(candidate))) {
+                free.add(candidate);
+            }
+        }
+        free.sort(Comparator.comparing(end));
+
+        List<T> chosen = new ArrayList<>();
+        LocalDateTime lastEnd = null;
+        for (T candidate : free) {
+            if (lastEnd == null || !start.apply(candidate).isBefore(lastEnd)) {
+                chosen.add(candidate);
+                lastEnd = end.apply(candidate);
+            }
+        }
+        return chosen;
+    }
+
+    private static <T> int countStartsBefore(List<T> sorted, Function<T, LocalDateTime> start, LocalDateTime value) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (start.apply(sorted.get(middle)).isBefore(value)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
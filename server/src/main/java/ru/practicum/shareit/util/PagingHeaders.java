@@ -0,0 +1,15 @@
+package ru.practicum.shareit.util;
+
+/**
+ * Заголовки ответов постраничных списков.
+ */
+public final class PagingHeaders {
+
+    /**
+     * Курсор следующей страницы; выставляется, только если страница заполнена целиком.
+     */
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    private PagingHeaders() {
+    }
+}
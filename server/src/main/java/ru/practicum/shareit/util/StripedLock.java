@@ -0,0 +1,59 @@
+package ru.practicum.shareit.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Фиксированный набор блокировок, между которыми распределяются ключи. Операции с одним ключом
+ * всегда попадают в одну полосу и выполняются по очереди, с разными ключами - как правило параллельно.
+ * Для нескольких ключей полосы берутся через getAll, чтобы все потоки блокировали их в одном порядке.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedLock(int stripes) {
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes count must be a power of two");
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = stripes - 1;
+    }
+
+    public Lock get(long key) {
+        return locks[spread(key) & mask];
+    }
+
+    /**
+     * Полосы ключей без повторов в порядке номеров полос. Порядок ключей для этого не подходит:
+     * два ключа могут попасть в одну полосу, и тогда потоки с разными наборами ключей взаимоблокируются.
+     */
+    public List<Lock> getAll(Collection<Long> keys) {
+        TreeSet<Integer> stripes = new TreeSet<>();
+        for (long key : keys) {
+            stripes.add(spread(key) & mask);
+        }
+        List<Lock> result = new ArrayList<>(stripes.size());
+        for (int stripe : stripes) {
+            result.add(locks[stripe]);
+        }
+        return result;
+    }
+
+    /*
+     * Последовательные ID должны расходиться по разным полосам, поэтому старшие биты
+     * перемешиваются с младшими так же, как в HashMap.
+     */
+    private static int spread(long key) {
+        int hash = Long.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,21 @@
+-- Индексы под фактические пути доступа репозиториев.
+-- Новые индексы добавляются следующим файлом V<n>__*.sql и перечисляются в spring.sql.init.schema-locations.
+
+-- Бронирования пользователя: WHERE user_id = ? [AND status = ?] ORDER BY start_date DESC, id DESC
+CREATE INDEX IF NOT EXISTS booking_user_id_start_date_idx ON booking (user_id, start_date DESC);
+
+-- Последнее бронирование вещи: WHERE item_id = ? AND end_date < ? ORDER BY end_date DESC
+CREATE INDEX IF NOT EXISTS booking_item_id_end_date_idx ON booking (item_id, end_date);
+
+-- Следующее бронирование вещи и бронирования вещей владельца: WHERE item_id = ? AND start_date > ?
+CREATE INDEX IF NOT EXISTS booking_item_id_start_date_idx ON booking (item_id, start_date);
+
+-- Комментарии к вещи: WHERE item_id = ? ORDER BY created DESC
+CREATE INDEX IF NOT EXISTS comments_item_id_created_idx ON comments (item_id, created DESC);
+
+-- Запросы пользователя: WHERE user_id = ? ORDER BY created
+CREATE INDEX IF NOT EXISTS requests_user_id_created_idx ON requests (user_id, created);
+
+-- Вещи владельца и вещи, созданные в ответ на запрос
+CREATE INDEX IF NOT EXISTS items_owner_id_idx ON items (owner_id);
+CREATE INDEX IF NOT EXISTS items_request_id_idx ON items (request_id);
@@ -0,0 +1,9 @@
+-- Списки CURRENT/PAST/FUTURE арендатора: WHERE user_id = ? AND phase = ? ORDER BY start_date DESC, id DESC
+CREATE INDEX IF NOT EXISTS booking_user_id_phase_start_date_idx ON booking (user_id, phase, start_date DESC);
+
+-- Те же списки владельца после соединения с его вещами: WHERE item_id = ? AND phase = ?
+CREATE INDEX IF NOT EXISTS booking_item_id_phase_start_date_idx ON booking (item_id, phase, start_date DESC);
+
+-- Переходы фаз: WHERE phase = 'FUTURE' AND start_date <= ? и WHERE phase IN (...) AND end_date < ?
+CREATE INDEX IF NOT EXISTS booking_phase_start_date_idx ON booking (phase, start_date);
+CREATE INDEX IF NOT EXISTS booking_phase_end_date_idx ON booking (phase, end_date);
@@ -0,0 +1,67 @@
+drop table if exists booking;
+drop table if exists requests;
+drop table if exists comments;
+drop table if exists items;
+drop table if exists users;
+drop sequence if exists booking_seq;
+drop sequence if exists requests_seq;
+drop sequence if exists comments_seq;
+drop sequence if exists items_seq;
+drop sequence if exists users_seq;
+
+-- Шаг последовательностей равен allocationSize в @SequenceGenerator: Hibernate выдает ID блоками по 50
+-- без обращения к БД (pooled optimizer), что позволяет пакетные вставки.
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS booking_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS requests_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
+
+
+CREATE TABLE IF NOT EXISTS users
+(
+    ID BIGINT PRIMARY KEY,
+    NAME   VARCHAR(50) NOT NULL,
+    EMAIL  VARCHAR(50) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS items
+(
+    ID BIGINT PRIMARY KEY,
+    name VARCHAR(50),
+    description VARCHAR(500),
+    IS_AVAILABLE BOOLEAN,
+    owner_id BIGINT REFERENCES users (id),
+    request_id BIGINT,
+    version BIGINT DEFAULT 0 NOT NULL
+    );
+
+CREATE TABLE IF NOT EXISTS booking
+(
+    ID BIGINT PRIMARY KEY,
+    start_date TIMESTAMP WITHOUT TIME ZONE,
+    end_date TIMESTAMP WITHOUT TIME ZONE,
+    item_id BIGINT REFERENCES items (id),
+    user_id BIGINT REFERENCES users (id),
+    status VARCHAR(50),
+    phase VARCHAR(10) DEFAULT 'FUTURE' NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS requests
+(
+    ID BIGINT PRIMARY KEY,
+    description VARCHAR(500),
+    user_id BIGINT REFERENCES users (id),
+    created TIMESTAMP WITHOUT TIME ZONE NOT NULL
+    );
+
+CREATE TABLE IF NOT EXISTS comments
+(
+    ID BIGINT PRIMARY KEY,
+    text VARCHAR(1000),
+    item_id BIGINT REFERENCES items (id),
+    user_id BIGINT REFERENCES users (id),
+    created TIMESTAMP WITHOUT TIME ZONE
+    );
+
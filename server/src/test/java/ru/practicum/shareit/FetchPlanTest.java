@@ -0,0 +1,143 @@
+package ru.practicum.shareit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.ItemViewCache;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.UserPrincipal;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Число SQL-запросов и загруженных сущностей на каждый GET-эндпоинт по статистике Hibernate.
+ * Ловит возврат к жадной загрузке связей и N+1 при маппинге в DTO.
+ */
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:fetch_plan",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Transactional
+class FetchPlanTest {
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private ItemViewCache itemViewCache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (?, ?, ?)",
+                    id, "user" + id, "user" + id + "@mail.ru");
+        }
+        jdbcTemplate.update("INSERT INTO requests (id, description, user_id, created) VALUES (1, 'request', 3, ?)",
+                Timestamp.valueOf(now.minusDays(10)));
+        jdbcTemplate.update("INSERT INTO items (id, name, description, is_available, owner_id, request_id) " +
+                "VALUES (1, 'item1', 'description1', true, 1, 1), (2, 'item2', 'description2', true, 1, null)");
+        insertBooking(1, now.minusDays(5), now.minusDays(4), 1, "APPROVED");
+        insertBooking(2, now.plusDays(4), now.plusDays(5), 1, "WAITING");
+        insertBooking(3, now.minusDays(1), now.plusDays(1), 2, "APPROVED");
+        insertComment(1, 2, now.minusDays(3));
+        insertComment(2, 3, now.minusDays(2));
+
+        itemViewCache.clear();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getBookingTest() {
+        bookingService.getBookingById(1L, new UserPrincipal(2L));
+
+        assertFetched(1, 2);
+    }
+
+    @Test
+    void getBookerBookingsTest() {
+        bookingService.getAllBookingByUserId(new UserPrincipal(2L), "ALL", 0, 10);
+
+        assertFetched(1, 0);
+    }
+
+    @Test
+    void getOwnerBookingsTest() {
+        bookingService.getAllBookingByOwnerId(new UserPrincipal(1L), "ALL", 0, 10);
+
+        assertFetched(1, 0);
+    }
+
+    @Test
+    void getItemByOwnerTest() {
+        itemService.getItemById(1L, 1L);
+
+        assertFetched(3, 5);
+    }
+
+    @Test
+    void getOwnerItemsTest() {
+        itemService.retrieveAllItemByUserId(1L);
+
+        assertFetched(3, 6);
+    }
+
+    @Test
+    void getOwnRequestsTest() {
+        itemRequestService.getAllMyItemRequest(new UserPrincipal(3L));
+
+        assertFetched(2, 1);
+    }
+
+    @Test
+    void getOtherRequestsTest() {
+        itemRequestService.findAll(1L, 0, 10);
+
+        assertFetched(2, 1);
+    }
+
+    @Test
+    void getRequestTest() {
+        itemRequestService.getItemRequestById(new UserPrincipal(1L), 1L);
+
+        assertFetched(2, 2);
+    }
+
+    private void insertBooking(long id, LocalDateTime start, LocalDateTime end, long itemId, String status) {
+        jdbcTemplate.update("INSERT INTO booking (id, start_date, end_date, item_id, user_id, status) " +
+                "VALUES (?, ?, ?, ?, 2, ?)", id, Timestamp.valueOf(start), Timestamp.valueOf(end), itemId, status);
+    }
+
+    private void insertComment(long id, long userId, LocalDateTime created) {
+        jdbcTemplate.update("INSERT INTO comments (id, text, item_id, user_id, created) VALUES (?, 'comment', 1, ?, ?)",
+                id, userId, Timestamp.valueOf(created));
+    }
+
+    private void assertFetched(long statements, long entities) {
+        assertEquals(statements, statistics.getPrepareStatementCount(), "SQL statements");
+        assertEquals(entities, statistics.getEntityLoadCount(), "loaded entities");
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Ограничение числа SQL-запросов на один HTTP-запрос в MockMvc:
+ * <pre>
+ * mvc.perform(get("/items").with(QueryBudget.recordStatements()))
+ *         .andExpect(QueryBudget.statementsAtMost(4));
+ * </pre>
+ * Запросы считает SqlStatementRecorder, поэтому контекст должен быть поднят с {@link RecordSqlStatements}.
+ * При превышении в сообщение попадают все выполненные запросы с числом повторов, самые частые сверху:
+ * N+1 виден как один запрос с большим счетчиком.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Сбрасывает записанные запросы перед выполнением HTTP-запроса, чтобы подготовка данных не попала в подсчет.
+     */
+    public static RequestPostProcessor recordStatements() {
+        return request -> {
+            SqlStatementRecorder.clear();
+            return request;
+        };
+    }
+
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> assertStatementsAtMost(max);
+    }
+
+    public static void assertStatementsAtMost(int max) {
+        List<String> statements = SqlStatementRecorder.statements();
+        if (statements.size() > max) {
+            throw new AssertionError(String.format("Expected at most %d SQL statements, but was %d:%n%s",
+                    max, statements.size(), report(statements)));
+        }
+    }
+
+    private static String report(List<String> statements) {
+        Map<String, Long> counts = statements.stream()
+                .map(sql -> sql.replaceAll("\\s+", " ").trim())
+                .collect(Collectors.groupingBy(sql -> sql, LinkedHashMap::new, Collectors.counting()));
+        return counts.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> String.format("%5d x %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
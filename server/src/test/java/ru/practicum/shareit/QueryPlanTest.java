@@ -0,0 +1,176 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingSpecifications;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.request.ItemRequestRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Выполняет EXPLAIN в H2 для SQL, который Hibernate генерирует для горячих запросов репозиториев,
+ * и падает, если хотя бы одна таблица читается полным сканированием: tableScan или проход
+ * по индексу без условия.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.SqlStatementRecorder")
+class QueryPlanTest {
+
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\* PUBLIC\\.[\\w.]+ \\*/|tableScan");
+
+    private static final int USERS = 50;
+    private static final int ITEMS = 200;
+    private static final int BOOKINGS = 2000;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final Pageable page = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void beforeEach() {
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> requests = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@mail.ru"});
+            requests.add(new Object[]{id, "request" + id, id, Timestamp.valueOf(now.minusDays(id))});
+        }
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        for (long id = 1; id <= ITEMS; id++) {
+            items.add(new Object[]{id, "item" + id, "description" + id, true, id % USERS + 1, id % USERS + 1});
+            comments.add(new Object[]{id, "comment" + id, id, (id + 1) % USERS + 1, Timestamp.valueOf(now)});
+        }
+        List<Object[]> bookings = new ArrayList<>();
+        for (long id = 1; id <= BOOKINGS; id++) {
+            LocalDateTime start = now.plusDays(id - BOOKINGS / 2);
+            bookings.add(new Object[]{id, Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1)),
+                    id % ITEMS + 1, (id + 7) % USERS + 1, BookingStatus.values()[(int) (id % 4)].name()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO requests (id, description, user_id, created) VALUES (?, ?, ?, ?)",
+                requests);
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id, request_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, text, item_id, user_id, created) VALUES (?, ?, ?, ?, ?)",
+                comments);
+        jdbcTemplate.batchUpdate("INSERT INTO booking (id, start_date, end_date, item_id, user_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", bookings);
+        SqlStatementRecorder.clear();
+    }
+
+    @Test
+    void bookerBookingQueriesUseIndexesTest() {
+        bookingRepository.existsByBookerId(1L);
+        bookingRepository.findByBookerIdStatePast(1L, now);
+        findBookingsInEveryState(BookingRole.BOOKER);
+
+        assertNoFullScans();
+    }
+
+    @Test
+    void ownerBookingQueriesUseIndexesTest() {
+        bookingRepository.existsByOwnerId(1L);
+        findBookingsInEveryState(BookingRole.OWNER);
+
+        assertNoFullScans();
+    }
+
+    @Test
+    void itemBookingQueriesUseIndexesTest() {
+        bookingRepository.findIntervalsByItemId(1L);
+        bookingRepository.findLastAndNextByItemIds(List.of(1L, 2L), now);
+        bookingRepository.existsApprovedOverlap(1L, 1L, now, now.plusDays(1));
+        bookingRepository.findByItemIdInAndStatusIn(List.of(1L, 2L), List.of(BookingStatus.WAITING));
+
+        assertNoFullScans();
+    }
+
+    @Test
+    void itemQueriesUseIndexesTest() {
+        itemRepository.findByOwnerIdOrderByIdAsc(1L);
+        itemRepository.findAllByIdForUpdate(List.of(1L, 2L));
+        itemRepository.findAllByIdForDecisions(List.of(1L, 2L), 2L);
+        itemRepository.findByRequest_Id(1L, Sort.by("id").descending());
+        commentRepository.findByItem_IdOrderByCreatedDesc(1L);
+        commentRepository.findByItemIdsWithAuthors(List.of(1L, 2L));
+
+        assertNoFullScans();
+    }
+
+    @Test
+    void requestQueriesUseIndexesTest() {
+        itemRequestRepository.findByRequester_IdOrderByCreatedAsc(1L);
+        itemRequestRepository.findItemsByRequestIds(List.of(1L, 2L));
+
+        assertNoFullScans();
+    }
+
+    private void findBookingsInEveryState(BookingRole role) {
+        BookingCursor cursor = new BookingCursor(now, 1L);
+        for (BookingState state : BookingState.values()) {
+            bookingRepository.findBookings(BookingSpecifications.of(role, 1L, state, now), page);
+            bookingRepository.findBookings(BookingSpecifications.of(role, 1L, state, now)
+                    .and(BookingSpecifications.after(cursor)), page);
+        }
+    }
+
+    private void assertNoFullScans() {
+        List<String> statements = SqlStatementRecorder.statements();
+        assertFalse(statements.isEmpty());
+        for (String sql : statements) {
+            if (!sql.trim().toLowerCase().startsWith("select")) {
+                continue;
+            }
+            String plan = explain(sql);
+            assertFalse(FULL_SCAN.matcher(plan).find(), "Full scan in plan:\n" + plan);
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Полный контекст приложения с MockMvc на отдельной H2 и SqlStatementRecorder в Hibernate.
+ * Тесты не транзакционные: запрос фиксирует свою транзакцию, и в подсчет попадают все запросы
+ * к БД, включая пакетные вставки при flush. Очистка данных лежит на тесте.
+ * У всех классов с этой аннотацией общий кэшированный контекст.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:query_budget",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=ru.practicum.shareit.SqlStatementRecorder",
+        "spring.jpa.properties.hibernate.show_sql=false"})
+@AutoConfigureMockMvc
+public @interface RecordSqlStatements {
+}
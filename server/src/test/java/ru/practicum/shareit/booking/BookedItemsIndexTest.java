@@ -0,0 +1,89 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class BookedItemsIndexTest {
+
+    private final User owner = new User(1L, "owner", "owner@mail.ru");
+    private final User booker = new User(2L, "booker", "booker@mail.ru");
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private final List<BookingIntervalView> approved = new ArrayList<>();
+
+    private BookedItemsIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        BookingRepository bookingRepository = Mockito.mock(BookingRepository.class);
+        when(bookingRepository.findIntervalsByStatusIn(any())).thenReturn(approved);
+        index = new BookedItemsIndex(bookingRepository);
+    }
+
+    @Test
+    void freeBetweenTest() {
+        approve(1L, 1L, base.plusHours(9), base.plusHours(10));
+        approve(2L, 2L, base.plusDays(1).plusHours(12), base.plusDays(3));
+        approve(3L, 3L, base.minusDays(1), base);
+        index.rebuild();
+
+        LongPredicate sameDay = index.freeBetween(base.plusHours(12), base.plusHours(18));
+        assertTrue(sameDay.test(1L));
+        assertTrue(sameDay.test(2L));
+        assertTrue(sameDay.test(3L));
+
+        LongPredicate threeDays = index.freeBetween(base.plusHours(9).plusMinutes(30), base.plusDays(2));
+        assertFalse(threeDays.test(1L));
+        assertFalse(threeDays.test(2L));
+        assertTrue(threeDays.test(3L));
+        assertTrue(threeDays.test(4L));
+
+        LongPredicate week = index.freeBetween(base.minusDays(3), base.plusDays(4));
+        assertFalse(week.test(1L));
+        assertFalse(week.test(3L));
+    }
+
+    @Test
+    void dayIsReleasedOnlyWithoutOtherBookingsTest() {
+        approve(1L, 1L, base.plusHours(9), base.plusHours(10));
+        approve(2L, 1L, base.plusHours(15), base.plusDays(2));
+        approve(3L, 2L, base.plusDays(1), base.plusDays(2));
+        index.rebuild();
+        assertFalse(index.freeBetween(base.plusDays(1).plusHours(1), base.plusDays(1).plusHours(2)).test(1L));
+
+        reject(2L, 1L, base.plusHours(15), base.plusDays(2));
+        assertFalse(index.freeBetween(base.plusHours(8), base.plusHours(11)).test(1L));
+        assertTrue(index.freeBetween(base.plusHours(11), base.plusHours(20)).test(1L));
+        assertTrue(index.freeBetween(base.minusDays(1), base.plusDays(5)).test(3L));
+        assertFalse(index.freeBetween(base.minusDays(1), base.plusDays(5)).test(2L));
+    }
+
+    private void approve(long bookingId, long itemId, LocalDateTime start, LocalDateTime end) {
+        BookingIntervalView view = Mockito.mock(BookingIntervalView.class);
+        when(view.getId()).thenReturn(bookingId);
+        when(view.getItemId()).thenReturn(itemId);
+        when(view.getStartDate()).thenReturn(start);
+        when(view.getEndDate()).thenReturn(end);
+        approved.add(view);
+    }
+
+    private void reject(long bookingId, long itemId, LocalDateTime start, LocalDateTime end) {
+        Item item = new Item(itemId, owner, "item" + itemId, "description" + itemId, true, null, null);
+        index.update(new Booking(bookingId, start, end, item, booker, BookingStatus.REJECTED));
+    }
+}
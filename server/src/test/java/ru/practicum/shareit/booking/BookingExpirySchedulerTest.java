@@ -0,0 +1,92 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.ItemViewCache;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({BookingExpiryScheduler.class, BookingIntervalIndex.class, ItemViewCache.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BookingExpirySchedulerTest {
+
+    @Autowired
+    private BookingExpiryScheduler bookingExpiryScheduler;
+    @Autowired
+    private BookingIntervalIndex bookingIntervalIndex;
+    @SpyBean
+    private BookingRepository bookingRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private LocalDateTime now;
+    private Item item;
+    private Booking stale;
+    private Booking approved;
+    private Booking future;
+
+    @BeforeEach
+    void beforeEach() {
+        now = LocalDateTime.now();
+        User owner = entityManager.persist(new User(null, "owner", "owner@mail.ru"));
+        User booker = entityManager.persist(new User(null, "booker", "booker@mail.ru"));
+        item = entityManager.persist(new Item(null, owner, "item", "description", true, null, null));
+        stale = entityManager.persist(new Booking(null, now.minusHours(2), now.plusHours(1), item, booker,
+                BookingStatus.WAITING));
+        approved = entityManager.persist(new Booking(null, now.minusHours(4), now.minusHours(3), item, booker,
+                BookingStatus.APPROVED));
+        future = entityManager.persist(new Booking(null, now.plusDays(1), now.plusDays(2), item, booker,
+                BookingStatus.WAITING));
+        entityManager.flush();
+        bookingIntervalIndex.rebuild();
+        bookingExpiryScheduler.load();
+    }
+
+    @Test
+    void expireWaitingBookingsTest() {
+        assertTrue(bookingIntervalIndex.overlaps(item.getId(), stale.getStart(), stale.getEnd()));
+
+        assertEquals(1, bookingExpiryScheduler.expire(now));
+        entityManager.clear();
+
+        assertEquals(BookingStatus.EXPIRED, bookingRepository.findById(stale.getId()).orElseThrow().getStatus());
+        assertEquals(BookingStatus.APPROVED, bookingRepository.findById(approved.getId()).orElseThrow().getStatus());
+        assertEquals(BookingStatus.WAITING, bookingRepository.findById(future.getId()).orElseThrow().getStatus());
+        assertFalse(bookingIntervalIndex.overlaps(item.getId(), stale.getStart(), stale.getEnd()));
+        assertTrue(bookingIntervalIndex.overlaps(item.getId(), future.getStart(), future.getEnd()));
+    }
+
+    @Test
+    void skipBookingsAnsweredBeforeStartTest() {
+        bookingRepository.updateStatusByIdIn(List.of(future.getId()), BookingStatus.WAITING,
+                BookingStatus.REJECTED);
+
+        bookingExpiryScheduler.expire(now);
+        assertEquals(0, bookingExpiryScheduler.expire(now.plusDays(2)));
+        entityManager.clear();
+
+        verify(bookingRepository, times(1)).findIntervalsByIdInAndStatus(any(), any());
+
+        assertEquals(BookingStatus.REJECTED, bookingRepository.findById(future.getId()).orElseThrow().getStatus());
+        assertEquals(0, bookingExpiryScheduler.scheduled());
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.booking;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Замер пути проверки пересечения и добавления брони для вещи с тысячами бронирований.
+ * Запуск: main-метод из IDE или через exec-плагин с тестовым classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingIntervalIndexBenchmark {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"1000", "10000", "100000"})
+    private int bookingsPerItem;
+
+    private BookingIntervalIndex index;
+    private Booking freeSlot;
+    private LocalDateTime busyStart;
+
+    @Setup
+    public void setUp() {
+        BookingRepository bookingRepository = Mockito.mock(BookingRepository.class);
+        when(bookingRepository.findIntervalsByStatusIn(any())).thenReturn(List.of());
+        index = new BookingIntervalIndex(bookingRepository);
+        index.rebuild();
+
+        User owner = new User(1L, "owner", "owner@mail.ru");
+        User booker = new User(2L, "booker", "booker@mail.ru");
+        Item item = new Item(1L, owner, "item", "description", true, null, null);
+        for (long i = 0; i < bookingsPerItem; i++) {
+            LocalDateTime start = BASE.plusHours(i * 2);
+            index.add(new Booking(i, start, start.plusHours(1), item, booker, BookingStatus.APPROVED));
+        }
+        LocalDateTime freeStart = BASE.plusHours(bookingsPerItem / 2 * 2L + 1);
+        freeSlot = new Booking(-1L, freeStart, freeStart.plusMinutes(30), item, booker, BookingStatus.WAITING);
+        busyStart = BASE.plusHours(bookingsPerItem / 2 * 2L);
+    }
+
+    @Benchmark
+    public boolean overlapCheckBusy() {
+        return index.overlaps(1L, busyStart, busyStart.plusMinutes(30));
+    }
+
+    @Benchmark
+    public boolean createInFreeSlot() {
+        boolean overlaps = index.overlaps(1L, freeSlot.getStart(), freeSlot.getEnd());
+        index.add(freeSlot);
+        index.remove(freeSlot);
+        return overlaps;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookingIntervalIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,158 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class BookingIntervalIndexTest {
+
+    private final User owner = new User(1L, "owner", "owner@mail.ru");
+    private final User booker = new User(2L, "booker", "booker@mail.ru");
+    private final Item item = new Item(1L, owner, "item1", "description1", true, null, null);
+    private final Item otherItem = new Item(2L, owner, "item2", "description2", true, null, null);
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private BookingIntervalIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        BookingRepository bookingRepository = Mockito.mock(BookingRepository.class);
+        when(bookingRepository.findIntervalsByStatusIn(any())).thenReturn(List.of());
+        index = new BookingIntervalIndex(bookingRepository);
+        index.rebuild();
+    }
+
+    @Test
+    void overlapsTest() {
+        index.add(booking(1L, base, base.plusDays(2)));
+        index.add(booking(2L, base.plusDays(10), base.plusDays(12)));
+
+        assertTrue(index.overlaps(item.getId(), base.plusDays(1), base.plusDays(3)));
+        assertTrue(index.overlaps(item.getId(), base.minusDays(1), base.plusDays(20)));
+        assertTrue(index.overlaps(item.getId(), base.plusDays(11), base.plusDays(11).plusHours(1)));
+        assertFalse(index.overlaps(item.getId(), base.plusDays(2), base.plusDays(10)));
+        assertFalse(index.overlaps(item.getId(), base.minusDays(5), base));
+        assertFalse(index.overlaps(2L, base, base.plusDays(1)));
+    }
+
+    @Test
+    void longIntervalInsideManyBookingsTest() {
+        index.add(booking(1L, base, base.plusDays(100)));
+        for (long i = 2; i < 2000; i++) {
+            index.add(booking(i, base.plusDays(200).plusHours(i), base.plusDays(200).plusHours(i).plusMinutes(30)));
+        }
+
+        assertTrue(index.overlaps(item.getId(), base.plusDays(50), base.plusDays(51)));
+        assertTrue(index.overlaps(item.getId(), base.plusDays(200).plusHours(500), base.plusDays(200).plusHours(501)));
+        assertFalse(index.overlaps(item.getId(), base.plusDays(100), base.plusDays(200)));
+    }
+
+    @Test
+    void removeTest() {
+        Booking booking = booking(1L, base, base.plusDays(2));
+        assertTrue(index.add(booking));
+        assertFalse(index.add(booking));
+
+        assertTrue(index.remove(booking));
+        assertFalse(index.remove(booking));
+        assertFalse(index.overlaps(item.getId(), base, base.plusDays(1)));
+    }
+
+    @Test
+    void freeIntervalsTest() {
+        index.add(booking(1L, base, base.plusDays(5)));
+        index.add(booking(2L, base.plusDays(1), base.plusDays(2)));
+        index.add(booking(3L, base.plusDays(5), base.plusDays(6)));
+        index.add(booking(4L, base.plusDays(8), base.plusDays(9)));
+
+        List<ItemAvailabilityDto.Interval> free = index.freeIntervals(item.getId(),
+                base.minusDays(1), base.plusDays(10));
+
+        assertEquals(3, free.size());
+        assertInterval(free.get(0), base.minusDays(1), base);
+        assertInterval(free.get(1), base.plusDays(6), base.plusDays(8));
+        assertInterval(free.get(2), base.plusDays(9), base.plusDays(10));
+        assertTrue(index.freeIntervals(item.getId(), base.plusDays(3), base.plusDays(4)).isEmpty());
+        assertInterval(index.freeIntervals(item.getId(), base.plusDays(3), base.plusDays(7)).get(0),
+                base.plusDays(6), base.plusDays(7));
+        assertInterval(index.freeIntervals(2L, base, base.plusDays(1)).get(0), base, base.plusDays(1));
+    }
+
+    @Test
+    void freeIntervalsAfterRemoveTest() {
+        Booking booking = booking(1L, base.plusDays(1), base.plusDays(2));
+        index.add(booking);
+        assertEquals(2, index.freeIntervals(item.getId(), base, base.plusDays(3)).size());
+
+        index.remove(booking);
+        List<ItemAvailabilityDto.Interval> free = index.freeIntervals(item.getId(), base, base.plusDays(3));
+        assertEquals(1, free.size());
+        assertInterval(free.get(0), base, base.plusDays(3));
+    }
+
+    @Test
+    void pruneEndedBeforeTest() {
+        index.add(booking(1L, base, base.plusDays(1)));
+        index.add(booking(2L, base.plusDays(2), base.plusDays(10)));
+        index.add(booking(3L, base.plusDays(3), base.plusDays(4)));
+        index.add(new Booking(4L, base, base.plusDays(1), otherItem, booker, BookingStatus.WAITING));
+
+        assertEquals(3, index.pruneEndedBefore(base.plusDays(4)));
+        assertEquals(0, index.pruneEndedBefore(base.plusDays(4)));
+
+        assertFalse(index.overlaps(item.getId(), base, base.plusDays(2)));
+        assertFalse(index.overlaps(otherItem.getId(), base, base.plusDays(1)));
+        assertTrue(index.overlaps(item.getId(), base.plusDays(9), base.plusDays(11)));
+        assertTrue(index.add(booking(5L, base.plusDays(5), base.plusDays(6))));
+        assertTrue(index.add(new Booking(6L, base, base.plusDays(1), otherItem, booker, BookingStatus.WAITING)));
+        assertTrue(index.overlaps(otherItem.getId(), base, base.plusDays(1)));
+    }
+
+    @Test
+    void rebuildSkipsEndedBookingsTest() {
+        BookingRepository bookingRepository = Mockito.mock(BookingRepository.class);
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingIntervalView> intervals = List.of(
+                interval(1L, now.minusDays(2), now.minusDays(1)),
+                interval(2L, now.plusDays(1), now.plusDays(2)));
+        when(bookingRepository.findIntervalsByStatusIn(any())).thenReturn(intervals);
+        BookingIntervalIndex rebuilt = new BookingIntervalIndex(bookingRepository);
+        rebuilt.rebuild();
+
+        assertFalse(rebuilt.overlaps(item.getId(), now.minusDays(2), now.minusDays(1)));
+        assertTrue(rebuilt.overlaps(item.getId(), now.plusDays(1), now.plusDays(2)));
+    }
+
+    private void assertInterval(ItemAvailabilityDto.Interval interval, LocalDateTime start, LocalDateTime end) {
+        assertEquals(start, interval.getStart());
+        assertEquals(end, interval.getEnd());
+    }
+
+    private BookingIntervalView interval(long id, LocalDateTime start, LocalDateTime end) {
+        BookingIntervalView view = Mockito.mock(BookingIntervalView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getItemId()).thenReturn(item.getId());
+        when(view.getStartDate()).thenReturn(start);
+        when(view.getEndDate()).thenReturn(end);
+        return view;
+    }
+
+    private Booking booking(long id, LocalDateTime start, LocalDateTime end) {
+        return new Booking(id, start, end, item, booker, BookingStatus.WAITING);
+    }
+}
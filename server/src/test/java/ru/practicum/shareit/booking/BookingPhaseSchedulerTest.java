@@ -0,0 +1,106 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingPhase;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({BookingPhaseScheduler.class, BookingIntervalIndex.class})
+class BookingPhaseSchedulerTest {
+
+    @Autowired
+    private BookingPhaseScheduler bookingPhaseScheduler;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private User booker;
+    private Booking past;
+    private Booking current;
+    private Booking future;
+
+    @BeforeEach
+    void beforeEach() {
+        User owner = entityManager.persist(new User(null, "owner", "owner@mail.ru"));
+        booker = entityManager.persist(new User(null, "booker", "booker@mail.ru"));
+        Item item = entityManager.persist(new Item(null, owner, "item", "description", true, null, null));
+        past = entityManager.persist(new Booking(null, now.minusDays(2), now.minusDays(1), item, booker,
+                BookingStatus.APPROVED));
+        current = entityManager.persist(new Booking(null, now.minusHours(1), now.plusHours(1), item, booker,
+                BookingStatus.APPROVED));
+        future = entityManager.persist(new Booking(null, now.plusDays(1), now.plusDays(2), item, booker,
+                BookingStatus.APPROVED));
+        entityManager.flush();
+    }
+
+    @Test
+    void phaseIsSetOnPersistTest() {
+        assertEquals(BookingPhase.PAST, past.getPhase());
+        assertEquals(BookingPhase.CURRENT, current.getPhase());
+        assertEquals(BookingPhase.FUTURE, future.getPhase());
+    }
+
+    @Test
+    void advanceMovesOnlyCrossedBookingsTest() {
+        assertEquals(0, bookingPhaseScheduler.advance(now));
+
+        assertEquals(1, bookingPhaseScheduler.advance(now.plusHours(2)));
+        assertEquals(BookingPhase.PAST, phaseOf(current));
+        assertEquals(BookingPhase.FUTURE, phaseOf(future));
+
+        assertEquals(1, bookingPhaseScheduler.advance(now.plusDays(1).plusMinutes(1)));
+        assertEquals(BookingPhase.CURRENT, phaseOf(future));
+
+        assertEquals(1, bookingPhaseScheduler.advance(now.plusDays(3)));
+        assertEquals(BookingPhase.PAST, phaseOf(future));
+    }
+
+    @Test
+    void statesDoNotDependOnLaggingPhaseTest() {
+        LocalDateTime later = now.plusDays(1).plusHours(1);
+
+        assertEquals(List.of(past.getId(), current.getId()), find(BookingState.PAST, later));
+        assertEquals(List.of(future.getId()), find(BookingState.CURRENT, later));
+        assertEquals(List.of(), find(BookingState.FUTURE, later));
+
+        bookingPhaseScheduler.advance(later);
+
+        assertEquals(List.of(past.getId(), current.getId()), find(BookingState.PAST, later));
+        assertEquals(List.of(future.getId()), find(BookingState.CURRENT, later));
+        assertEquals(List.of(), find(BookingState.FUTURE, later));
+    }
+
+    private BookingPhase phaseOf(Booking booking) {
+        entityManager.clear();
+        return bookingRepository.findById(booking.getId()).orElseThrow().getPhase();
+    }
+
+    private List<Long> find(BookingState state, LocalDateTime at) {
+        return bookingRepository.findBookings(BookingSpecifications.of(BookingRole.BOOKER, booker.getId(), state, at),
+                        PageRequest.of(0, 10))
+                .stream()
+                .map(BookingDto::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,193 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.ItemBookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class BookingRepositoryTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+
+    User user1;
+    Item item1;
+    User user2;
+    Item item2;
+    Booking booking;
+    Booking bookingApproved;
+
+
+    @BeforeEach
+    void beforeEach() {
+        user1 = userRepository.save(new User(null, "user1", "user1@email"));
+        user2 = userRepository.save(new User(null, "user2", "user2@email"));
+
+        item1 = itemRepository.save(new Item(null, user1, "item1", "description1", true, null,
+                null));
+        item2 = itemRepository.save(new Item(null, user1, "item2", "description2", true, null,
+                null));
+
+        booking = bookingRepository.save(new Booking(null, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+                item1, user2, BookingStatus.WAITING));
+        bookingApproved = bookingRepository.save(new Booking(null, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+                item2, user2, BookingStatus.APPROVED));
+    }
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.deleteAll();
+        userRepository.deleteAll();
+        bookingRepository.deleteAll();
+    }
+
+    @Test
+    void existsByOwnerIdAndBookerIdTest() {
+        assertThat(bookingRepository.existsByOwnerId(user1.getId()), is(true));
+        assertThat(bookingRepository.existsByOwnerId(user2.getId()), is(false));
+        assertThat(bookingRepository.existsByBookerId(user2.getId()), is(true));
+        assertThat(bookingRepository.existsByBookerId(user1.getId()), is(false));
+    }
+
+    @Test
+    void findByBookerIdStatePastTest() {
+
+        bookingApproved.setStart(LocalDateTime.now().minusDays(100));
+        bookingApproved.setEnd(LocalDateTime.now().minusDays(50));
+        bookingRepository.save(bookingApproved);
+        Pageable pageable = PageRequest.of(1 / 10, 10);
+
+        List<Booking> bookingsBooker = bookingRepository.findByBookerIdStatePast(user2.getId(), LocalDateTime.now());
+        List<BookingDto> bookingsOwner = bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.OWNER, user1.getId(), BookingState.PAST, LocalDateTime.now()), pageable);
+
+
+        assertThat(bookingsBooker.size(), is(1));
+        assertThat(bookingsOwner.size(), is(1));
+    }
+
+    @Test
+    void findByBookerIdStateCurrentTest() {
+
+        Pageable pageable = PageRequest.of(1 / 10, 10);
+        List<BookingDto> bookingsBooker = bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.BOOKER, user2.getId(), BookingState.CURRENT, LocalDateTime.now()), pageable);
+        List<BookingDto> bookingsOwner = bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.OWNER, user1.getId(), BookingState.CURRENT, LocalDateTime.now()), pageable);
+
+        assertThat(bookingsBooker.size(), is(2));
+        assertThat(bookingsOwner.size(), is(2));
+    }
+
+    @Test
+    void findFutureTest() {
+
+        booking.setStart(LocalDateTime.now().plusDays(50));
+        booking.setEnd(LocalDateTime.now().plusDays(100));
+        bookingRepository.save(booking);
+
+        Pageable pageable = PageRequest.of(1 / 10, 10);
+        List<BookingDto> bookingsBooker = bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.BOOKER, user2.getId(), BookingState.FUTURE, LocalDateTime.now()), pageable);
+        List<BookingDto> bookingsOwner = bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.OWNER, user1.getId(), BookingState.FUTURE, LocalDateTime.now()), pageable);
+
+        assertThat(bookingsBooker.size(), is(1));
+        assertThat(bookingsOwner.size(), is(1));
+    }
+
+    @Test
+    void findOwnerAllTest() {
+
+        Pageable pageable = PageRequest.of(1 / 10, 10);
+        List<BookingDto> bookings = bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.OWNER, user1.getId(), BookingState.ALL, LocalDateTime.now()), pageable);
+        assertThat(bookings.size(), is(2));
+    }
+
+    @Test
+    void findBookingsProjectionAndCursorTest() {
+        Pageable pageable = PageRequest.of(0, 10);
+        List<BookingDto> bookings = bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.BOOKER, user2.getId(), BookingState.ALL, LocalDateTime.now()), pageable);
+
+        assertThat(bookings.size(), is(2));
+        BookingDto first = bookings.get(0);
+        assertEquals(bookingApproved.getId(), first.getId());
+        assertEquals(item2.getId(), first.getItemId());
+        assertEquals(item2.getId(), first.getItem().getId());
+        assertEquals("item2", first.getItem().getName());
+        assertEquals(user2.getId(), first.getBooker().getId());
+        assertEquals(BookingStatus.APPROVED, first.getStatus());
+
+        List<BookingDto> next = bookingRepository.findBookings(
+                BookingSpecifications.of(BookingRole.BOOKER, user2.getId(), BookingState.ALL, LocalDateTime.now())
+                        .and(BookingSpecifications.after(BookingCursor.of(first))), pageable);
+        assertThat(next.size(), is(1));
+        assertEquals(booking.getId(), next.get(0).getId());
+    }
+
+    @Test
+    void findLastAndNextByItemIdsTest() {
+        Booking past = bookingRepository.save(new Booking(3L, LocalDateTime.now().minusDays(10),
+                LocalDateTime.now().minusDays(9), item1, user2, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(4L, LocalDateTime.now().minusDays(20),
+                LocalDateTime.now().minusDays(19), item1, user2, BookingStatus.APPROVED));
+        Booking future = bookingRepository.save(new Booking(5L, LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(6), item1, user2, BookingStatus.WAITING));
+        bookingRepository.save(new Booking(6L, LocalDateTime.now().plusDays(15),
+                LocalDateTime.now().plusDays(16), item1, user2, BookingStatus.WAITING));
+
+        List<ItemBookingView> bookings = bookingRepository.findLastAndNextByItemIds(
+                List.of(item1.getId(), item2.getId()), LocalDateTime.now());
+
+        assertThat(bookings.size(), is(2));
+        ItemBookingView last = bookings.stream().filter(ItemBookingView::getLastBooking).findFirst().orElseThrow();
+        ItemBookingView next = bookings.stream().filter(b -> !b.getLastBooking()).findFirst().orElseThrow();
+        assertEquals(past.getId(), last.getId());
+        assertEquals(item1.getId(), last.getItemId());
+        assertEquals(user2.getId(), last.getBookerId());
+        assertEquals(future.getId(), next.getId());
+    }
+
+    @Test
+    void updateBookingTest() {
+        booking.setStatus(BookingStatus.APPROVED);
+        assertEquals(BookingStatus.APPROVED, bookingRepository.findById(booking.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateBooking2Test() {
+        booking.setStatus(BookingStatus.REJECTED);
+        assertEquals(BookingStatus.REJECTED, bookingRepository.findById(booking.getId()).orElseThrow().getStatus());
+    }
+
+}
+
+
@@ -0,0 +1,171 @@
+package ru.practicum.shareit.booking.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.QueryBudget;
+import ru.practicum.shareit.RecordSqlStatements;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.ItemViewCache;
+import ru.practicum.shareit.user.UserExistenceIndex;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RecordSqlStatements
+class BookingControllerQueryBudgetTest {
+
+    private static final int ITEMS = 50;
+    private static final int BOOKINGS = 500;
+    private static final long GENERATED_ID_GAP = 1_000_000L;
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ItemViewCache itemViewCache;
+    @Autowired
+    private UserExistenceIndex userExistenceIndex;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void beforeEach() {
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@mail.ru"});
+        }
+        List<Object[]> items = new ArrayList<>();
+        for (long id = 1; id <= ITEMS; id++) {
+            items.add(new Object[]{id, "item" + id, "description" + id, true, 1L});
+        }
+        List<Object[]> bookings = new ArrayList<>();
+        for (long id = 1; id <= BOOKINGS; id++) {
+            LocalDateTime start = now.minusDays(BOOKINGS - id);
+            bookings.add(new Object[]{GENERATED_ID_GAP + id, Timestamp.valueOf(start),
+                    Timestamp.valueOf(start.plusHours(1)), id % ITEMS + 1, 2L, "WAITING"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id) " +
+                "VALUES (?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate("INSERT INTO booking (id, start_date, end_date, item_id, user_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", bookings);
+        itemViewCache.clear();
+        userExistenceIndex.rebuild();
+    }
+
+    @AfterEach
+    void afterEach() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "comments", "booking", "items", "requests", "users");
+        itemViewCache.clear();
+        userExistenceIndex.rebuild();
+    }
+
+    @Test
+    void getBookerBookingsTest() throws Exception {
+        mvc.perform(get("/bookings")
+                        .param("from", "0")
+                        .param("size", "20")
+                        .header("X-Sharer-User-Id", 2L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(20)))
+                .andExpect(QueryBudget.statementsAtMost(2));
+    }
+
+    @Test
+    void getOwnerBookingsTest() throws Exception {
+        mvc.perform(get("/bookings/owner")
+                        .param("state", "PAST")
+                        .param("from", "0")
+                        .param("size", "20")
+                        .header("X-Sharer-User-Id", 1L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(20)))
+                .andExpect(QueryBudget.statementsAtMost(2));
+    }
+
+    @Test
+    void getBookingTest() throws Exception {
+        mvc.perform(get("/bookings/{id}", GENERATED_ID_GAP + 1)
+                        .header("X-Sharer-User-Id", 2L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(2));
+    }
+
+    @Test
+    void approveBookingTest() throws Exception {
+        // бронирование, вещь с увеличением версии, проверка пересечения, UPDATE бронирования и версии вещи
+        mvc.perform(patch("/bookings/{id}", GENERATED_ID_GAP + 1)
+                        .param("approved", "true")
+                        .header("X-Sharer-User-Id", 1L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(5));
+    }
+
+    @Test
+    void decideBookingsTest() throws Exception {
+        List<BookingDecisionsDto.Decision> decisions = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            decisions.add(new BookingDecisionsDto.Decision(GENERATED_ID_GAP + id, id % 2 == 0));
+        }
+
+        mvc.perform(patch("/bookings/owner/decisions")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BookingDecisionsDto.builder()
+                                .decisions(decisions)
+                                .build()))
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[19].status").value(200))
+                // пользователь, бронирования, вещи с увеличением версий, подтвержденные бронирования вещей,
+                // пакетные UPDATE бронирований и версий вещей - независимо от размера пакета
+                .andExpect(QueryBudget.statementsAtMost(6));
+    }
+
+    @Test
+    void createBookingsTest() throws Exception {
+        List<BookingDto> batch = new ArrayList<>();
+        LocalDateTime start = now.plusYears(5);
+        for (long id = 1; id <= 20; id++) {
+            batch.add(BookingDto.builder()
+                    .itemId(id)
+                    .start(start.plusDays(id))
+                    .end(start.plusDays(id).plusHours(1))
+                    .build());
+        }
+
+        mvc.perform(post("/bookings/batch")
+                        .header("X-Sharer-User-Id", 3L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch))
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[19].status").value(200))
+                // пользователь, вещи под блокировкой, до двух nextval пула последовательности и одна пакетная вставка
+                .andExpect(QueryBudget.statementsAtMost(5));
+    }
+}
@@ -0,0 +1,209 @@
+package ru.practicum.shareit.booking.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingDecisionMode;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.KnownUsers;
+import ru.practicum.shareit.user.UserPrincipal;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.PagingHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = BookingController.class)
+class BookingControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @MockBean
+    private BookingService bookingService;
+
+    @MockBean
+    private KnownUsers knownUsers;
+
+    private final User user = new User(1L, "User1", "user1@mail.ru");
+    private final User user2 = new User(2L, "User2", "user2@mail.ru");
+    private final Item item = new Item(1L, user, "item1", "description1", true, null, null);
+    private final Booking booking = new Booking(1L, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+            item, user2, BookingStatus.WAITING);
+
+    private final BookingDto bookingDto = BookingMapper.toBookingDto(booking);
+
+    @BeforeEach
+    void beforeEach() {
+        when(knownUsers.resolve(anyLong())).thenAnswer(invocation -> new UserPrincipal(invocation.getArgument(0)));
+    }
+
+    @Test
+    void getById() throws Exception {
+        when(bookingService.getBookingById(anyLong(), any())).thenReturn(bookingDto);
+        mvc.perform(get("/bookings/{id}", booking.getId())
+                        .header("X-Sharer-User-Id", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(notNullValue())))
+                .andExpect(jsonPath("$.item.name", is(booking.getItem().getName())));
+    }
+
+    @Test
+    void getByIdWithUnknownUser() throws Exception {
+        when(knownUsers.resolve(100L)).thenThrow(new NotFoundException("User with ID 100 not found"));
+        mvc.perform(get("/bookings/{id}", booking.getId())
+                        .header("X-Sharer-User-Id", 100L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error", is("User with ID 100 not found")));
+        mvc.perform(get("/bookings/{id}", booking.getId()))
+                .andExpect(status().isBadRequest());
+        verify(bookingService, never()).getBookingById(anyLong(), any());
+    }
+
+    @Test
+    void createBooking() throws Exception {
+        when(bookingService.createBooking(any(), any())).thenReturn(bookingDto);
+        mvc.perform(post("/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BookingMapper.toBookingDto(booking)))
+                        .header("X-Sharer-User-Id", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(notNullValue())))
+                .andExpect(jsonPath("$.item.name", is(booking.getItem().getName())));
+    }
+
+    @Test
+    void createBookings() throws Exception {
+        when(bookingService.createBookings(any(), any())).thenReturn(List.of(
+                BookingBatchResult.builder().index(0).status(200).booking(bookingDto).build(),
+                BookingBatchResult.builder().index(1).status(404).error("Item with ID 100 not found").build()));
+        mvc.perform(post("/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(bookingDto, bookingDto)))
+                        .header("X-Sharer-User-Id", user2.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", is(200)))
+                .andExpect(jsonPath("$[0].booking.item.name", is(booking.getItem().getName())))
+                .andExpect(jsonPath("$[1].status", is(404)))
+                .andExpect(jsonPath("$[1].error", is("Item with ID 100 not found")));
+    }
+
+    @Test
+    void decideBookings() throws Exception {
+        booking.setStatus(BookingStatus.APPROVED);
+        when(bookingService.decideBookings(any(), any())).thenReturn(List.of(
+                BookingBatchResult.builder().index(0).status(200).booking(BookingMapper.toBookingDto(booking)).build(),
+                BookingBatchResult.builder().index(1).status(400).error("Already rejected").build()));
+        BookingDecisionsDto decisions = BookingDecisionsDto.builder()
+                .decisions(List.of(new BookingDecisionsDto.Decision(1L, true),
+                        new BookingDecisionsDto.Decision(2L, false)))
+                .build();
+
+        mvc.perform(patch("/bookings/owner/decisions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(decisions))
+                        .header("X-Sharer-User-Id", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].booking.status", is(BookingStatus.APPROVED.toString())))
+                .andExpect(jsonPath("$[1].status", is(400)));
+        verify(bookingService).decideBookings(argThat(request -> request.getMode() == BookingDecisionMode.EXPLICIT
+                && request.getDecisions().size() == 2), eq(new UserPrincipal(user.getId())));
+    }
+
+    @Test
+    void updateStatus() throws Exception {
+        booking.setStatus(BookingStatus.APPROVED);
+        when(bookingService.updateBooking(anyLong(), any(), anyBoolean()))
+                .thenReturn(BookingMapper.toBookingDto(booking));
+
+        mvc.perform(patch("/bookings/{id}", booking.getId())
+                        .param("approved", "true")
+                        .content(objectMapper.writeValueAsString(bookingDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(notNullValue())))
+                .andExpect(jsonPath("$.status", is(BookingStatus.APPROVED.toString())));
+    }
+
+    @Test
+    void getAllByUser() throws Exception {
+        when(bookingService.getAllBookingByUserId(any(), anyString(), anyInt(), anyInt()))
+                .thenReturn(List.of(bookingDto));
+
+        mvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", user2.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(notNullValue())))
+                .andExpect(jsonPath("$[0].item.name", is(booking.getItem().getName())));
+
+        Mockito
+                .verify(bookingService, Mockito.times(1))
+                .getAllBookingByUserId(any(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getAllByUserWithCursor() throws Exception {
+        String after = BookingCursor.of(bookingDto).encode();
+        when(bookingService.getAllBookingByUserIdAfter(any(), anyString(), anyString(), anyInt()))
+                .thenReturn(List.of(bookingDto));
+
+        mvc.perform(get("/bookings")
+                        .param("after", after)
+                        .param("size", "1")
+                        .header("X-Sharer-User-Id", user2.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PagingHeaders.NEXT_CURSOR, after))
+                .andExpect(jsonPath("$[0].id", is(notNullValue())));
+
+        Mockito
+                .verify(bookingService, Mockito.times(1))
+                .getAllBookingByUserIdAfter(new UserPrincipal(user2.getId()), "ALL", after, 1);
+    }
+
+    @Test
+    void getAllByOwner() throws Exception {
+        when(bookingService.getAllBookingByOwnerId(any(), anyString(), anyInt(), anyInt()))
+                .thenReturn(List.of(bookingDto));
+
+        mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(notNullValue())))
+                .andExpect(jsonPath("$[0].item.name", is(booking.getItem().getName())));
+
+        Mockito
+                .verify(bookingService, Mockito.times(1))
+                .getAllBookingByOwnerId(any(), anyString(), anyInt(), anyInt());
+    }
+}
\ No newline at end of file
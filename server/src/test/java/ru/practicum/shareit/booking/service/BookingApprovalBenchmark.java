@@ -0,0 +1,107 @@
+package ru.practicum.shareit.booking.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.user.UserPrincipal;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Пропускная способность решений по бронированиям из THREADS потоков. Каждый поток попеременно
+ * подтверждает и отклоняет свое бронирование; бронирования потоков не пересекаются.
+ * items = 1 - все решения касаются одной вещи и выполняются по очереди; items = THREADS - у каждого
+ * потока своя вещь, и пропускная способность должна расти с числом потоков, а не упираться в одну блокировку.
+ * Запуск: main-метод из IDE или через exec-плагин с тестовым classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(BookingApprovalBenchmark.THREADS)
+@Fork(1)
+public class BookingApprovalBenchmark {
+
+    static final int THREADS = 8;
+
+    @Param({"1", "8"})
+    private int items;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private final AtomicLong nextBookingId = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:approval_benchmark",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        bookingService = context.getBean(BookingService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@mail.ru'), " +
+                "(2, 'booker', 'booker@mail.ru')");
+        List<Object[]> itemRows = new ArrayList<>();
+        for (long id = 1; id <= items; id++) {
+            itemRows.add(new Object[]{id, "item" + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id) " +
+                "VALUES (?, ?, 'description', true, 1)", itemRows);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Object[]> bookings = new ArrayList<>();
+        for (long id = 1; id <= THREADS; id++) {
+            bookings.add(new Object[]{id, Timestamp.valueOf(start.plusDays(id)),
+                    Timestamp.valueOf(start.plusDays(id).plusHours(1)), (id - 1) % items + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO booking (id, start_date, end_date, item_id, user_id, status) " +
+                "VALUES (?, ?, ?, ?, 2, 'REJECTED')", bookings);
+        context.getBean(BookingIntervalIndex.class).rebuild();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadBooking {
+
+        private long bookingId;
+        private boolean approve = true;
+
+        @Setup
+        public void setUp(BookingApprovalBenchmark benchmark) {
+            bookingId = benchmark.nextBookingId.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    public BookingDto decide(ThreadBooking booking) {
+        BookingDto result = bookingService.updateBooking(booking.bookingId, new UserPrincipal(1L), booking.approve);
+        booking.approve = !booking.approve;
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookingApprovalBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,132 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.user.UserPrincipal;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Одновременные подтверждения пересекающихся бронирований: на каждую вещь приходится несколько
+ * бронирований одного интервала, и каждое подтверждается из нескольких потоков сразу.
+ * Подтвердиться должно ровно одно бронирование на вещь, остальные попытки - получить ValidationException.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:approval_concurrency")
+class BookingApprovalConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ITEMS = 8;
+    private static final int BOOKINGS_PER_ITEM = 4;
+    private static final int APPROVALS_PER_BOOKING = 2;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@mail.ru'), " +
+                "(2, 'booker', 'booker@mail.ru')");
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        for (long itemId = 1; itemId <= ITEMS; itemId++) {
+            items.add(new Object[]{itemId, "item" + itemId});
+            for (int i = 0; i < BOOKINGS_PER_ITEM; i++) {
+                bookings.add(new Object[]{bookingId(itemId, i), Timestamp.valueOf(start),
+                        Timestamp.valueOf(start.plusHours(1)), itemId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id) " +
+                "VALUES (?, ?, 'description', true, 1)", items);
+        jdbcTemplate.batchUpdate("INSERT INTO booking (id, start_date, end_date, item_id, user_id, status) " +
+                "VALUES (?, ?, ?, ?, 2, 'WAITING')", bookings);
+        bookingIntervalIndex.rebuild();
+    }
+
+    @AfterEach
+    void afterEach() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "booking", "items", "users");
+        bookingIntervalIndex.rebuild();
+    }
+
+    @Test
+    void approveOverlappingBookingsConcurrentlyTest() throws Exception {
+        List<Callable<Boolean>> approvals = new ArrayList<>();
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        for (int round = 0; round < APPROVALS_PER_BOOKING; round++) {
+            for (int i = 0; i < BOOKINGS_PER_ITEM; i++) {
+                for (long itemId = 1; itemId <= ITEMS; itemId++) {
+                    long bookingId = bookingId(itemId, i);
+                    approvals.add(() -> {
+                        ready.await();
+                        try {
+                            bookingService.updateBooking(bookingId, new UserPrincipal(1L), true);
+                            return true;
+                        } catch (ValidationException e) {
+                            rejected.incrementAndGet();
+                            return false;
+                        }
+                    });
+                }
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        int approved = 0;
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Callable<Boolean> approval : approvals) {
+                results.add(executor.submit(approval));
+            }
+            ready.countDown();
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    approved++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(ITEMS, approved);
+        assertEquals(approvals.size() - ITEMS, rejected.get());
+        List<Map<String, Object>> approvedByItem = jdbcTemplate.queryForList(
+                "SELECT item_id, COUNT(*) AS approved FROM booking WHERE status = 'APPROVED' GROUP BY item_id");
+        assertEquals(ITEMS, approvedByItem.size());
+        for (Map<String, Object> row : approvedByItem) {
+            assertEquals(1L, ((Number) row.get("APPROVED")).longValue(), "Item " + row.get("ITEM_ID"));
+        }
+        assertTrue(jdbcTemplate.queryForObject("SELECT MIN(version) FROM items", Long.class) >= 1);
+    }
+
+    private static long bookingId(long itemId, int index) {
+        return itemId * BOOKINGS_PER_ITEM + index;
+    }
+}
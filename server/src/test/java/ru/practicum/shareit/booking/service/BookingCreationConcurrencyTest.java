@@ -0,0 +1,146 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.user.UserPrincipal;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Одновременное создание бронирований одной вещи на один интервал, одиночными запросами и пакетами:
+ * создаться должно ровно одно, остальные запросы - получить ValidationException.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:creation_concurrency")
+class BookingCreationConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@mail.ru'), " +
+                "(2, 'booker', 'booker@mail.ru')");
+        jdbcTemplate.update("INSERT INTO items (id, name, description, is_available, owner_id) " +
+                "VALUES (1, 'item', 'description', true, 1)");
+        bookingIntervalIndex.rebuild();
+    }
+
+    @AfterEach
+    void afterEach() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "booking", "items", "users");
+        bookingIntervalIndex.rebuild();
+    }
+
+    @Test
+    void createOverlappingBookingsConcurrentlyTest() throws Exception {
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Callable<Boolean>> creations = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            creations.add(() -> {
+                ready.await();
+                try {
+                    bookingService.createBooking(booking(0), new UserPrincipal(2L));
+                    return true;
+                } catch (ValidationException e) {
+                    return false;
+                }
+            });
+        }
+
+        assertEquals(1, countSucceeded(creations, ready));
+        assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "booking"));
+    }
+
+    /*
+     * Гонка пакета с одиночным созданием воспроизводится не при каждом запуске, поэтому раундов несколько,
+     * каждый на свой день.
+     */
+    @Test
+    void createOverlappingBatchAndSingleBookingsConcurrentlyTest() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            int day = round;
+            CountDownLatch ready = new CountDownLatch(1);
+            List<Callable<Boolean>> creations = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                if (i % 2 == 0) {
+                    creations.add(() -> {
+                        ready.await();
+                        List<BookingBatchResult> results = bookingService.createBookings(List.of(booking(day)),
+                                new UserPrincipal(2L));
+                        return results.get(0).getStatus() == HttpStatus.OK.value();
+                    });
+                } else {
+                    creations.add(() -> {
+                        ready.await();
+                        try {
+                            bookingService.createBooking(booking(day), new UserPrincipal(2L));
+                            return true;
+                        } catch (ValidationException e) {
+                            return false;
+                        }
+                    });
+                }
+            }
+
+            assertEquals(1, countSucceeded(creations, ready), "Round " + round);
+        }
+        assertEquals(ROUNDS, JdbcTestUtils.countRowsInTable(jdbcTemplate, "booking"));
+    }
+
+    private BookingDto booking(int day) {
+        return BookingDto.builder()
+                .itemId(1L)
+                .start(start.plusDays(day))
+                .end(start.plusDays(day).plusHours(1))
+                .build();
+    }
+
+    private static int countSucceeded(List<Callable<Boolean>> tasks, CountDownLatch ready) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        int succeeded = 0;
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Callable<Boolean> task : tasks) {
+                results.add(executor.submit(task));
+            }
+            ready.countDown();
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return succeeded;
+    }
+}
@@ -0,0 +1,127 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingDecisionsDto;
+import ru.practicum.shareit.booking.model.BookingDecisionMode;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.user.KnownUsers;
+import ru.practicum.shareit.user.UserPrincipal;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Пакетные решения владельца. Пересекающиеся WAITING-бронирования вставляются напрямую в БД:
+ * через API их создать нельзя, но в данных они могут встретиться.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:booking_decisions")
+class BookingDecisionsTest {
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Autowired
+    private KnownUsers knownUsers;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate.update("INSERT INTO users (id, name, email) VALUES (1, 'owner', 'owner@mail.ru'), " +
+                "(2, 'booker', 'booker@mail.ru'), (3, 'other', 'other@mail.ru')");
+        jdbcTemplate.update("INSERT INTO items (id, name, description, is_available, owner_id) VALUES " +
+                "(1, 'item1', 'description', true, 1), (2, 'item2', 'description', true, 1), " +
+                "(3, 'item3', 'description', true, 3)");
+        insertBooking(1, 1, 0, 10, "WAITING");
+        insertBooking(2, 1, 1, 3, "WAITING");
+        insertBooking(3, 1, 3, 5, "WAITING");
+        insertBooking(4, 1, 4, 7, "WAITING");
+        insertBooking(5, 1, 6, 9, "APPROVED");
+        insertBooking(6, 2, 0, 2, "WAITING");
+        insertBooking(7, 3, 0, 2, "WAITING");
+        bookingIntervalIndex.rebuild();
+    }
+
+    @AfterEach
+    void afterEach() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "booking", "items", "users");
+        bookingIntervalIndex.rebuild();
+    }
+
+    @Test
+    void applyExplicitDecisionsTest() {
+        BookingDecisionsDto decisions = BookingDecisionsDto.builder()
+                .decisions(List.of(decision(2L, true), decision(4L, true), decision(1L, false),
+                        decision(6L, false), decision(6L, false), decision(7L, true), decision(100L, true),
+                        decision(null, true)))
+                .build();
+
+        List<BookingBatchResult> results = bookingService.decideBookings(decisions, new UserPrincipal(1L));
+
+        assertEquals(List.of(200, 400, 200, 200, 400, 404, 404, 400), statuses(results));
+        assertEquals("Item is already booked for these dates", results.get(1).getError());
+        assertEquals("Already rejected", results.get(4).getError());
+        assertEquals(List.of("REJECTED", "APPROVED", "WAITING", "WAITING", "APPROVED", "REJECTED", "WAITING"),
+                storedStatuses());
+    }
+
+    @Test
+    void approveMaxNonOverlappingTest() {
+        BookingDecisionsDto decisions = BookingDecisionsDto.builder()
+                .mode(BookingDecisionMode.APPROVE_MAX_NON_OVERLAPPING)
+                .itemIds(List.of(2L, 1L, 3L))
+                .build();
+
+        List<BookingBatchResult> results = bookingService.decideBookings(decisions, new UserPrincipal(1L));
+
+        assertEquals(List.of(200, 200, 200, 200, 200, 404), statuses(results));
+        assertEquals(List.of("REJECTED", "APPROVED", "APPROVED", "REJECTED", "APPROVED", "APPROVED", "WAITING"),
+                storedStatuses());
+    }
+
+    @Test
+    void rejectInvalidBatchesTest() {
+        assertThrows(ValidationException.class, () -> bookingService.decideBookings(
+                BookingDecisionsDto.builder().decisions(List.of()).build(), new UserPrincipal(1L)));
+        assertThrows(ValidationException.class, () -> bookingService.decideBookings(
+                BookingDecisionsDto.builder().mode(BookingDecisionMode.APPROVE_MAX_NON_OVERLAPPING).build(),
+                new UserPrincipal(1L)));
+        assertThrows(NotFoundException.class, () -> bookingService.decideBookings(
+                BookingDecisionsDto.builder().decisions(List.of(decision(1L, true))).build(), knownUsers.resolve(100L)));
+    }
+
+    private void insertBooking(long id, long itemId, int startHour, int endHour, String status) {
+        jdbcTemplate.update("INSERT INTO booking (id, start_date, end_date, item_id, user_id, status) " +
+                        "VALUES (?, ?, ?, ?, 2, ?)", id, Timestamp.valueOf(start.plusHours(startHour)),
+                Timestamp.valueOf(start.plusHours(endHour)), itemId, status);
+    }
+
+    private List<String> storedStatuses() {
+        return jdbcTemplate.queryForList("SELECT status FROM booking ORDER BY id", String.class);
+    }
+
+    private static BookingDecisionsDto.Decision decision(Long bookingId, boolean approved) {
+        return new BookingDecisionsDto.Decision(bookingId, approved);
+    }
+
+    private static List<Integer> statuses(List<BookingBatchResult> results) {
+        return results.stream().map(BookingBatchResult::getStatus).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,417 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.KnownUsers;
+import ru.practicum.shareit.user.UserMapper;
+import ru.practicum.shareit.user.UserPrincipal;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Transactional
+class BookingServiceTest {
+    private final BookingRepository bookingRepository;
+
+    private final BookingService bookingService;
+
+    private final KnownUsers knownUsers;
+
+    private final User user = new User(1L, "user1", "user1@mail.ru");
+    private final User user2 = new User(2L, "user2", "user2@mail.ru");
+    private final Item item = new Item(1L, user, "item1", "description1", true,
+            null, null);
+    private final Item itemNotAvailable = new Item(1L, user, "item1", "description1",
+            false, null, null);
+    private final Booking booking = new Booking(1L, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+            item, user2, BookingStatus.WAITING);
+
+    private final Booking bookingApproved = new Booking(2L, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+            item, user2, BookingStatus.APPROVED);
+
+    private final Booking bookingRejected = new Booking(3L, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
+            item, user2, BookingStatus.REJECTED);
+
+    @Autowired
+    public BookingServiceTest(BookingRepository bookingRepository,
+                              BookingService bookingService,
+                              KnownUsers knownUsers,
+                              ItemService itemService,
+                              UserService userService) {
+        this.bookingRepository = bookingRepository;
+        this.bookingService = bookingService;
+        this.knownUsers = knownUsers;
+        userService.createUser(UserMapper.toUserDto(user));
+        userService.createUser(UserMapper.toUserDto(user2));
+        itemService.createItem(ItemMapper.toItemDto(item), new UserPrincipal(item.getOwner().getId()));
+        save(booking);
+        save(bookingApproved);
+        save(bookingRejected);
+    }
+
+    /*
+     * Бронирования с фиксированными ID сохраняются заново для каждого теста поверх строк прошлых тестов,
+     * поэтому копии присваивается текущая версия строки.
+     */
+    private void save(Booking booking) {
+        bookingRepository.findById(booking.getId()).ifPresent(saved -> booking.setVersion(saved.getVersion()));
+        bookingRepository.save(booking);
+    }
+
+    @Test
+    void getBookingByIdTest() {
+        assertEquals(booking.getId(),
+                bookingService.getBookingById(booking.getId(), new UserPrincipal(booking.getBooker().getId())).getId());
+    }
+
+    @Test
+    void getWrongUserTest() {
+        assertThrows(NotFoundException.class, () -> bookingService.getBookingById(booking.getId(),
+                knownUsers.resolve(100L)));
+    }
+
+    @Test
+    void createBookingTest() {
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusMinutes(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(1L)
+                .build();
+        Booking booking1 = BookingMapper.toBooking(user, item,
+                bookingService.createBooking(bookingDto, new UserPrincipal(2L)));
+        assertEquals(booking1.getId(), bookingRepository.findById(booking1.getId()).orElse(null).getId());
+    }
+
+    @Test
+    void createOverlappingBookingTest() {
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(5))
+                .end(LocalDateTime.now().plusDays(7))
+                .itemId(1L)
+                .build();
+        bookingService.createBooking(bookingDto, new UserPrincipal(2L));
+
+        BookingDto overlappingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(6))
+                .end(LocalDateTime.now().plusDays(8))
+                .itemId(1L)
+                .build();
+        assertThrows(ValidationException.class, () -> bookingService.createBooking(overlappingDto, new UserPrincipal(2L)));
+    }
+
+    @Test
+    void createBookingsBatchTest() {
+        BookingDto first = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(10))
+                .end(LocalDateTime.now().plusDays(12))
+                .itemId(1L)
+                .build();
+        BookingDto overlapping = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(11))
+                .end(LocalDateTime.now().plusDays(13))
+                .itemId(1L)
+                .build();
+        BookingDto unknownItem = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(10))
+                .end(LocalDateTime.now().plusDays(12))
+                .itemId(100L)
+                .build();
+        BookingDto next = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(12).plusMinutes(1))
+                .end(LocalDateTime.now().plusDays(14))
+                .itemId(1L)
+                .build();
+
+        List<BookingBatchResult> results = bookingService.createBookings(
+                List.of(first, overlapping, unknownItem, next), new UserPrincipal(2L));
+
+        assertEquals(List.of(200, 400, 404, 200),
+                results.stream().map(BookingBatchResult::getStatus).collect(Collectors.toList()));
+        assertEquals(BookingStatus.WAITING,
+                bookingRepository.findById(results.get(0).getBooking().getId()).orElseThrow().getStatus());
+        assertEquals(1L, results.get(3).getBooking().getItemId());
+    }
+
+    @Test
+    void createBookingsBatchUnknownUserTest() {
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(10))
+                .end(LocalDateTime.now().plusDays(12))
+                .itemId(1L)
+                .build();
+        assertThrows(NotFoundException.class, () -> bookingService.createBookings(List.of(bookingDto),
+                knownUsers.resolve(100L)));
+        assertThrows(ValidationException.class, () -> bookingService.createBookings(List.of(), new UserPrincipal(2L)));
+    }
+
+    @Test
+    void createBookingStartInThePastTest() {
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().minusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(1L)
+                .build();
+
+        assertThrows(ValidationException.class, () -> BookingMapper.toBooking(user, item,
+                bookingService.createBooking(bookingDto, new UserPrincipal(2L))));
+    }
+
+    @Test
+    void createBookingStartAfterEndTest() {
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(10))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(1L)
+                .build();
+
+        assertThrows(ValidationException.class, () -> BookingMapper.toBooking(user, item,
+                bookingService.createBooking(bookingDto, new UserPrincipal(2L))));
+    }
+
+    @Test
+    void createBookingEndInThePastTest() {
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusMinutes(1))
+                .end(LocalDateTime.now().minusDays(2))
+                .itemId(1L)
+                .build();
+
+        assertThrows(ValidationException.class, () -> BookingMapper.toBooking(user, item,
+                bookingService.createBooking(bookingDto, new UserPrincipal(2L))));
+    }
+
+    @Test
+    void createBookingNotAvailableTest() {
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusMinutes(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(1L)
+                .build();
+
+        assertThrows(NotFoundException.class, () -> BookingMapper.toBooking(user, itemNotAvailable,
+                bookingService.createBooking(bookingDto, new UserPrincipal(1L))));
+    }
+
+    @Test
+    void createBookingByOwnerTest() {
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusMinutes(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(1L)
+                .build();
+
+        assertThrows(NotFoundException.class, () -> BookingMapper.toBooking(user, itemNotAvailable,
+                bookingService.createBooking(bookingDto, new UserPrincipal(1L))));
+    }
+
+    @Test
+    void updateBookingAlreadyApprovedTest() {
+        assertThrows(ValidationException.class, () -> bookingService
+                .updateBooking(bookingApproved.getId(), new UserPrincipal(user.getId()), true));
+    }
+
+    @Test
+    void updateBookingAlreadyRejectedTest() {
+        assertThrows(ValidationException.class, () -> bookingService
+                .updateBooking(bookingRejected.getId(), new UserPrincipal(user.getId()), false));
+    }
+
+    @Test
+    void updateBookingApprovedByNotOwnerTest() {
+        assertThrows(NotFoundException.class, () -> bookingService
+                .updateBooking(booking.getId(), new UserPrincipal(user2.getId()), true));
+    }
+
+    @Test
+    void getAllBookingByUserIdTest() {
+        assertEquals(3,
+                bookingService.getAllBookingByUserId(new UserPrincipal(user2.getId()), "ALL", 0, 10).size());
+    }
+
+    @Test
+    void getPastBookingByUserIdTest() {
+        assertEquals(new ArrayList<>(),
+                bookingService.getAllBookingByUserId(new UserPrincipal(user2.getId()), "PAST", 0, 10));
+    }
+
+    @Test
+    void getFutureBookingByUserIdTest() {
+        assertEquals(new ArrayList<>(),
+                bookingService.getAllBookingByUserId(new UserPrincipal(user2.getId()), "FUTURE", 0, 10));
+    }
+
+    @Test
+    void getCurrentBookingByUserIdTest() {
+        assertEquals(3,
+                bookingService.getAllBookingByUserId(new UserPrincipal(user2.getId()), "CURRENT", 0, 10).size());
+    }
+
+    @Test
+    void getWaitingBookingByUserIdTest() {
+        assertEquals(List.of(booking).get(0).getId(),
+                bookingService.getAllBookingByUserId(new UserPrincipal(user2.getId()), "WAITING", 0, 10).get(0).getId());
+    }
+
+    @Test
+    void getRejectedBookingByUserIdTest() {
+        assertEquals(List.of(bookingRejected).get(0).getId(),
+                bookingService.getAllBookingByUserId(new UserPrincipal(user2.getId()), "REJECTED", 0, 10).get(0).getId());
+    }
+
+    @Test
+    void getAllBookingByUserIdNegativeTest() {
+        assertThrows(IllegalArgumentException.class, () -> bookingService
+                .getAllBookingByUserId(new UserPrincipal(user2.getId()), "ALL", -1, -1));
+    }
+
+    @Test
+    void getAllBookingByUserIdBadWithoutBookingTest() {
+        assertThrows(NotFoundException.class, () -> bookingService
+                .getAllBookingByOwnerId(new UserPrincipal(user2.getId()), "BAD_STATE", 0, 10).get(0).getId());
+
+    }
+
+    @Test
+    void getAllBookingByUserIdBadStateTest() {
+        assertThrows(ValidationException.class, () -> bookingService
+                .getAllBookingByUserId(new UserPrincipal(user2.getId()), "BAD_STATE", 0, 10).get(0).getId());
+
+    }
+
+    @Test
+    void getAllBookingByUserIdAfterCursorTest() {
+        List<BookingDto> firstPage = bookingService.getAllBookingByUserId(new UserPrincipal(user2.getId()), "ALL", 0, 2);
+        String after = BookingCursor.of(firstPage.get(firstPage.size() - 1)).encode();
+        List<BookingDto> secondPage = bookingService.getAllBookingByUserIdAfter(new UserPrincipal(user2.getId()), "ALL",
+                after, 2);
+
+        assertEquals(1, secondPage.size());
+        assertEquals(booking.getId(), secondPage.get(0).getId());
+    }
+
+    @Test
+    void getAllBookingByOwnerIdAfterCursorTest() {
+        List<BookingDto> firstPage = bookingService.getAllBookingByOwnerId(new UserPrincipal(user.getId()), "CURRENT",
+                0, 1);
+        String after = BookingCursor.of(firstPage.get(0)).encode();
+
+        assertEquals(2, bookingService.getAllBookingByOwnerIdAfter(new UserPrincipal(user.getId()),
+                "CURRENT", after, 10).size());
+    }
+
+    @Test
+    void getFirstPageWithoutBookingsInBothModesTest() {
+        assertThrows(NotFoundException.class, () -> bookingService
+                .getAllBookingByOwnerId(new UserPrincipal(user2.getId()), "ALL", 0, 10));
+        assertThrows(NotFoundException.class, () -> bookingService
+                .getAllBookingByOwnerIdAfter(new UserPrincipal(user2.getId()), "ALL", null, 10));
+        assertThrows(NotFoundException.class, () -> bookingService
+                .getAllBookingByUserId(new UserPrincipal(user.getId()), "ALL", 0, 10));
+        assertThrows(NotFoundException.class, () -> bookingService
+                .getAllBookingByUserIdAfter(new UserPrincipal(user.getId()), "ALL", null, 10));
+        assertThrows(NotFoundException.class, () -> bookingService
+                .getAllBookingByUserIdAfter(new UserPrincipal(user.getId()), "BAD_STATE", null, 10));
+    }
+
+    @Test
+    void getFirstPageWithBookingsInBothModesTest() {
+        UserPrincipal booker = new UserPrincipal(user2.getId());
+        for (String state : List.of("ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED")) {
+            assertEquals(bookingService.getAllBookingByUserId(booker, state, 0, 2).stream()
+                            .map(BookingDto::getId)
+                            .collect(Collectors.toList()),
+                    bookingService.getAllBookingByUserIdAfter(booker, state, null, 2).stream()
+                            .map(BookingDto::getId)
+                            .collect(Collectors.toList()), state);
+        }
+    }
+
+    @Test
+    void getAllBookingByOwnerIdBadCursorTest() {
+        assertThrows(ValidationException.class, () -> bookingService
+                .getAllBookingByOwnerIdAfter(new UserPrincipal(user.getId()), "ALL", "bad cursor", 10));
+    }
+
+    @Test
+    void getAllBookingByUserIdNotAlignedFromTest() {
+        assertEquals(2,
+                bookingService.getAllBookingByUserId(new UserPrincipal(user2.getId()), "ALL", 1, 2).size());
+    }
+
+    @Test
+    void getAllBookingByOwnerIdTest() {
+        assertEquals(3,
+                bookingService.getAllBookingByOwnerId(new UserPrincipal(user.getId()), "ALL", 0, 10).size());
+    }
+
+    @Test
+    void getPastBookingByOwnerIdTest() {
+        assertEquals(new ArrayList<>(),
+                bookingService.getAllBookingByOwnerId(new UserPrincipal(user.getId()), "PAST", 0, 10));
+    }
+
+    @Test
+    void getFutureBookingByOwnerIdTest() {
+        assertEquals(new ArrayList<>(),
+                bookingService.getAllBookingByOwnerId(new UserPrincipal(user.getId()), "FUTURE", 0, 10));
+    }
+
+    @Test
+    void getCurrentBookingByOwnerIdTest() {
+        assertEquals(3,
+                bookingService.getAllBookingByOwnerId(new UserPrincipal(user.getId()), "CURRENT", 0, 10).size());
+    }
+
+    @Test
+    void getWaitingBookingByOwnerIdTest() {
+        assertEquals(List.of(booking).get(0).getId(),
+                bookingService.getAllBookingByOwnerId(new UserPrincipal(user.getId()), "WAITING", 0, 10).get(0).getId());
+    }
+
+    @Test
+    void getRejectedBookingByOwnerIdTest() {
+        assertEquals(List.of(bookingRejected).get(0).getId(),
+                bookingService.getAllBookingByOwnerId(new UserPrincipal(user.getId()), "REJECTED", 0, 10).get(0).getId());
+    }
+
+    @Test
+    void getAllBookingByOwnerIdNegativeTest() {
+        assertThrows(ValidationException.class, () -> bookingService
+                .getAllBookingByOwnerId(new UserPrincipal(user.getId()), "ALL", -1, -1));
+    }
+
+    @Test
+    void getAllBookingByOwnerIdBadStateTest() {
+        assertThrows(ValidationException.class, () -> bookingService
+                .getAllBookingByOwnerId(new UserPrincipal(user.getId()), "BAD_STATE", 0, 10).get(0).getId());
+
+    }
+
+    @Test
+    void getAllBookingByOwnerIdNULLStateTest() {
+        assertEquals(3,
+                bookingService.getAllBookingByOwnerId(new UserPrincipal(user.getId()), null, 0, 10).size());
+    }
+}
\ No newline at end of file
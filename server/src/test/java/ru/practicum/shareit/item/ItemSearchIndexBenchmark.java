@@ -0,0 +1,111 @@
+package ru.practicum.shareit.item;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Сравнение триграммного индекса (первая страница ранжированной выдачи)
+ * с запросом LIKE из ItemRepository.findByKeyword на 1M вещей в H2.
+ * Запуск: main-метод из IDE или через exec-плагин с тестовым classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ItemSearchIndexBenchmark {
+
+    private static final String[] WORDS = {"дрель", "отвертка", "перфоратор", "лестница", "палатка", "велосипед",
+            "пила", "молоток", "ключ", "фонарь", "мангал", "удочка", "каяк", "проектор", "колонка", "гитара"};
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    private int itemCount;
+
+    @Param({"перфор", "лестница стремянка"})
+    private String keyword;
+
+    private ItemSearchIndex index;
+    private Connection connection;
+    private PreparedStatement likeQuery;
+
+    @Setup
+    public void setUp() throws SQLException {
+        ItemRepository itemRepository = Mockito.mock(ItemRepository.class);
+        when(itemRepository.findAllAvailableForSearch()).thenReturn(List.of());
+        index = new ItemSearchIndex(itemRepository);
+        index.rebuild();
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:search_benchmark", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE items (id BIGINT PRIMARY KEY, name VARCHAR(50), " +
+                    "description VARCHAR(500), is_available BOOLEAN)");
+        }
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO items VALUES (?, ?, ?, TRUE)")) {
+            for (int id = 1; id <= itemCount; id++) {
+                String name = WORDS[random.nextInt(WORDS.length)] + " " + id;
+                String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                        + " стремянка " + random.nextInt(1000);
+                index.index(id, name, description, true);
+                insert.setLong(1, id);
+                insert.setString(2, name);
+                insert.setString(3, description);
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        likeQuery = connection.prepareStatement("SELECT id FROM items WHERE is_available = TRUE " +
+                "AND (LOWER(name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(description) LIKE LOWER(CONCAT('%', ?, '%')))");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> trigramIndex() {
+        return index.search(keyword, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> likeQuery() throws SQLException {
+        likeQuery.setString(1, keyword);
+        likeQuery.setString(2, keyword);
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet resultSet = likeQuery.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ItemSearchIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        ItemRepository itemRepository = Mockito.mock(ItemRepository.class);
+        when(itemRepository.findAllAvailableForSearch()).thenReturn(List.of());
+        index = new ItemSearchIndex(itemRepository);
+        index.rebuild();
+
+        index.index(1L, "Дрель", "Простая дрель", true);
+        index.index(2L, "Отвертка", "Аккумуляторная отвертка", true);
+        index.index(3L, "Ударная дрель", "Мощный инструмент", false);
+        index.index(4L, "Stairs", "Tall stair ladder", true);
+    }
+
+    @Test
+    void searchSubstringTest() {
+        assertEquals(List.of(1L), index.search("дРЕль", 0, 10));
+        assertEquals(List.of(2L), index.search("аккум", 0, 10));
+        assertEquals(List.of(4L), index.search("stair", 0, 10));
+    }
+
+    @Test
+    void searchDoesNotMatchTrigramsFromDifferentPlacesTest() {
+        assertEquals(List.of(), index.search("stairder", 0, 10));
+        assertEquals(List.of(), index.search("дрель отвертка", 0, 10));
+    }
+
+    @Test
+    void searchShortKeywordTest() {
+        assertEquals(List.of(2L, 1L), index.search("т", 0, 10));
+    }
+
+    @Test
+    void searchRankingTest() {
+        index.index(5L, "Набор", "Дрель, бита и еще одна дрель", true);
+        index.index(6L, "Набор", "Дрель", true);
+
+        assertEquals(List.of(1L, 5L, 6L), index.search("дрель", 0, 10));
+        assertEquals(List.of(5L), index.search("дрель", 1, 1));
+        assertEquals(List.of(), index.search("дрель", 3, 10));
+    }
+
+    @Test
+    void searchWithHugeFromTest() {
+        assertEquals(List.of(), index.search("дрель", Integer.MAX_VALUE - 10, 1000));
+        assertEquals(List.of(), index.search("т", 200_000_000, 10));
+        assertEquals(List.of(1L), index.search("дрель", 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void updateAndRemoveTest() {
+        index.index(1L, "Пила", "Ручная пила", true);
+        assertEquals(List.of(), index.search("дрель", 0, 10));
+        assertEquals(List.of(1L), index.search("пила", 0, 10));
+
+        index.index(3L, "Ударная дрель", "Мощный инструмент", true);
+        assertEquals(List.of(3L), index.search("дрель", 0, 10));
+
+        index.index(3L, "Ударная дрель", "Мощный инструмент", false);
+        assertEquals(List.of(), index.search("дрель", 0, 10));
+    }
+
+    @Test
+    void updateReusesOrdinalsTest() {
+        int ordinalCount = index.ordinalCount();
+        for (int i = 0; i < 1000; i++) {
+            index.index(1L, "Дрель " + i, "Простая дрель", true);
+        }
+        assertEquals(ordinalCount, index.ordinalCount());
+        assertEquals(List.of(1L), index.search("дрель 999", 0, 10));
+
+        index.index(2L, "Отвертка", "Аккумуляторная отвертка", false);
+        index.index(7L, "Дрель-шуруповерт", "Аккумуляторная дрель", true);
+        assertEquals(ordinalCount, index.ordinalCount());
+        assertEquals(List.of(1L, 7L), index.search("дрель", 0, 10));
+        assertEquals(List.of(7L), index.search("аккумуляторная дрель", 0, 10));
+    }
+}
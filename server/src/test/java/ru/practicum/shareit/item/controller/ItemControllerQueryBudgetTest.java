@@ -0,0 +1,145 @@
+package ru.practicum.shareit.item.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.QueryBudget;
+import ru.practicum.shareit.RecordSqlStatements;
+import ru.practicum.shareit.booking.BookingIntervalIndex;
+import ru.practicum.shareit.item.ItemViewCache;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.user.UserExistenceIndex;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RecordSqlStatements
+class ItemControllerQueryBudgetTest {
+
+    private static final int USERS = 10;
+    private static final int ITEMS = 500;
+    private static final long GENERATED_ID_GAP = 1_000_000L;
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ItemViewCache itemViewCache;
+    @Autowired
+    private BookingIntervalIndex bookingIntervalIndex;
+    @Autowired
+    private UserExistenceIndex userExistenceIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@mail.ru"});
+        }
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        for (long id = 1; id <= ITEMS; id++) {
+            long booker = id % (USERS - 1) + 2;
+            items.add(new Object[]{id, "item" + id, "description" + id, true, 1L});
+            bookings.add(new Object[]{GENERATED_ID_GAP + 2 * id, Timestamp.valueOf(now.minusDays(2)),
+                    Timestamp.valueOf(now.minusDays(1)), id, booker, "APPROVED"});
+            bookings.add(new Object[]{GENERATED_ID_GAP + 2 * id + 1, Timestamp.valueOf(now.plusDays(1)),
+                    Timestamp.valueOf(now.plusDays(2)), id, booker, "WAITING"});
+            comments.add(new Object[]{GENERATED_ID_GAP + id, "comment" + id, id, booker, Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id) " +
+                "VALUES (?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate("INSERT INTO booking (id, start_date, end_date, item_id, user_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", bookings);
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, text, item_id, user_id, created) VALUES (?, ?, ?, ?, ?)",
+                comments);
+        itemViewCache.clear();
+        bookingIntervalIndex.rebuild();
+        userExistenceIndex.rebuild();
+    }
+
+    @AfterEach
+    void afterEach() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "comments", "booking", "items", "requests", "users");
+        itemViewCache.clear();
+        bookingIntervalIndex.rebuild();
+        userExistenceIndex.rebuild();
+    }
+
+    @Test
+    void retrieveAllItemsTest() throws Exception {
+        mvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", 1L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(ITEMS)))
+                .andExpect(QueryBudget.statementsAtMost(4));
+    }
+
+    @Test
+    void getItemByOwnerTest() throws Exception {
+        mvc.perform(get("/items/{id}", 1L)
+                        .header("X-Sharer-User-Id", 1L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(3));
+    }
+
+    @Test
+    void getItemByOtherUserTest() throws Exception {
+        mvc.perform(get("/items/{id}", 1L)
+                        .header("X-Sharer-User-Id", 2L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(2));
+    }
+
+    @Test
+    void getItemAvailabilityTest() throws Exception {
+        LocalDateTime start = LocalDateTime.now();
+        mvc.perform(get("/items/{id}", 1L)
+                        .header("X-Sharer-User-Id", 2L))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/items/{id}/availability", 1L)
+                        .param("start", start.toString())
+                        .param("end", start.plusDays(7).toString())
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.free", hasSize(2)))
+                .andExpect(QueryBudget.statementsAtMost(0));
+    }
+
+    @Test
+    void addCommentTest() throws Exception {
+        CommentDto commentDto = new CommentDto(null, "comment", null, null);
+
+        mvc.perform(post("/items/{id}/comment", 1L)
+                        .header("X-Sharer-User-Id", 3L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commentDto))
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(5));
+    }
+}
@@ -9,9 +9,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.KnownUsers;
 import ru.practicum.shareit.user.model.UserDto;
 
 import java.nio.charset.StandardCharsets;
@@ -31,6 +33,9 @@ class ItemControllerTest {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private KnownUsers knownUsers;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -46,7 +51,7 @@ class ItemControllerTest {
 
     @Test
     void createItemTest() throws Exception {
-        when(itemService.createItem(any(), anyLong()))
+        when(itemService.createItem(any(), any()))
                 .thenReturn(itemDto1);
 
         mockMvc.perform(post("/items")
@@ -62,13 +67,13 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.available", is(itemDto1.getAvailable()), Boolean.class));
 
         verify(itemService, times(1))
-                .createItem(any(), anyLong());
+                .createItem(any(), any());
     }
 
     @Test
     void updateItemTest() throws Exception {
 
-        when(itemService.updateItem(any(), anyLong(), anyLong()))
+        when(itemService.updateItem(any(), anyLong(), any()))
                 .thenReturn(itemDto1);
 
         mockMvc.perform(patch("/items/" + itemDto1.getId())
@@ -84,7 +89,7 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.available", is(itemDto1.getAvailable()), Boolean.class));
 
         verify(itemService, times(1))
-                .updateItem(any(), anyLong(), anyLong());
+                .updateItem(any(), anyLong(), any());
     }
 
     @Test
@@ -105,6 +110,27 @@ class ItemControllerTest {
                 .getItemById(itemDto1.getId(), userDto1.getId());
     }
 
+    @Test
+    void getItemAvailabilityTest() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0);
+        LocalDateTime end = start.plusDays(10);
+        ItemAvailabilityDto availability = new ItemAvailabilityDto(1L, start, end,
+                List.of(new ItemAvailabilityDto.Interval(start.plusDays(2), end)));
+        when(itemService.getItemAvailability(anyLong(), any(), any()))
+                .thenReturn(availability);
+
+        mockMvc.perform(get("/items/{id}/availability", itemDto1.getId())
+                        .param("start", start.toString())
+                        .param("end", end.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId", is(1L), Long.class))
+                .andExpect(jsonPath("$.free[0].start", is("2030-01-03T12:00:00")))
+                .andExpect(jsonPath("$.free[0].end", is("2030-01-11T12:00:00")));
+
+        verify(itemService, times(1))
+                .getItemAvailability(itemDto1.getId(), start, end);
+    }
+
     @Test
     void retrieveAllItemTest() throws Exception {
         when(itemService.retrieveAllItemByUserId(anyLong()))
@@ -121,7 +147,7 @@ class ItemControllerTest {
 
     @Test
     void searchByText() throws Exception {
-        when(itemService.searchItemByKeyword(anyString()))
+        when(itemService.searchItemByKeyword(anyString(), anyInt(), anyInt(), any(), any()))
                 .thenReturn(List.of(itemDto1));
 
         mockMvc.perform(get("/items/search").param("text", "item1")
@@ -135,13 +161,31 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[0].name", is(itemDto1.getName()), String.class));
 
         verify(itemService, times(1))
-                .searchItemByKeyword(anyString());
+                .searchItemByKeyword("item1", 0, 10, null, null);
+    }
+
+    @Test
+    void searchByTextFreeBetweenTest() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0);
+        LocalDateTime end = start.plusDays(2);
+        when(itemService.searchItemByKeyword(anyString(), anyInt(), anyInt(), any(), any()))
+                .thenReturn(List.of(itemDto1));
+
+        mockMvc.perform(get("/items/search")
+                        .param("text", "item1")
+                        .param("start", start.toString())
+                        .param("end", end.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(itemDto1.getId()), Long.class));
+
+        verify(itemService, times(1))
+                .searchItemByKeyword("item1", 0, 10, start, end);
     }
 
     @Test
     void addCommentTest() throws Exception {
 
-        when(itemService.addComment(anyLong(), anyLong(), any()))
+        when(itemService.addComment(anyLong(), any(), any()))
                 .thenReturn(commentDto1);
 
         mockMvc.perform(post("/items/{id}/comment", itemDto1.getId())
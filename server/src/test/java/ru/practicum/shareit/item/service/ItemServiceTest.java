@@ -0,0 +1,306 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBooking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserPrincipal;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ItemServiceTest {
+    private final CommentRepository commentRepository;
+
+    private final ItemRepository itemRepository;
+
+    private final BookingService bookingService;
+
+    private final BookingRepository bookingRepository;
+
+    final UserService userService = Mockito.mock(UserService.class);
+
+    private final ItemService itemService;
+    private final UserRepository userRepository;
+    private final User user = new User(1L, "user1", "user1@mail.ru");
+    private final User user2 = new User(2L, "user2", "user2@mail.ru");
+    private final Item item = new Item(1L, user, "item1", "description1", true,
+            null, null);
+
+    private final Item item1;
+    private final ItemDtoWithBooking itemCommentDto;
+
+    private final LocalDateTime localDateTime = LocalDateTime.now();
+
+    @Autowired
+    public ItemServiceTest(CommentRepository commentRepository,
+                           UserRepository userRepository,
+                           ItemRepository itemRepository,
+                           BookingService bookingService,
+                           BookingRepository bookingRepository,
+                           ItemService itemService) {
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        userRepository.save(user);
+        userRepository.save(user2);
+        this.itemRepository = itemRepository;
+        this.itemService = itemService;
+        item1 = item;
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        itemCommentDto = ItemMapper.toItemDtoWithBooking(new ArrayList<>(), item);
+
+
+    }
+
+    @Test
+    void getItemByIdTest() {
+        ItemDto item1 = itemService.createItem(ItemMapper.toItemDto(item),
+                new UserPrincipal(item.getOwner().getId()));
+        assertEquals(itemCommentDto.getId(), itemService.getItemById(item1.getId(), user.getId()).getId());
+    }
+
+    @Test
+    void getItemByIdIsInvalidatedOnUpdateTest() {
+        ItemDto created = itemService.createItem(ItemMapper.toItemDto(item), new UserPrincipal(user.getId()));
+        assertEquals("item1", itemService.getItemById(created.getId(), user2.getId()).getName());
+
+        ItemDto update = new ItemDto();
+        update.setName("cachedName");
+        itemService.updateItem(update, created.getId(), new UserPrincipal(user.getId()));
+
+        assertEquals("cachedName", itemService.getItemById(created.getId(), user2.getId()).getName());
+    }
+
+    @Test
+    void getItemByIdIsInvalidatedOnOverwriteTest() {
+        ItemDto created = itemService.createItem(ItemMapper.toItemDto(item), new UserPrincipal(user.getId()));
+        assertEquals("item1", itemService.getItemById(created.getId(), user2.getId()).getName());
+
+        ItemDto overwrite = ItemMapper.toItemDto(new Item(created.getId(), user, "overwritten", "new description",
+                false, null, null));
+        itemService.createItem(overwrite, new UserPrincipal(user.getId()));
+
+        ItemDtoWithBooking found = itemService.getItemById(created.getId(), user2.getId());
+        assertEquals("overwritten", found.getName());
+        assertEquals("new description", found.getDescription());
+        assertEquals(false, found.getAvailable());
+    }
+
+    @Test
+    void getItemByIdForOwnerIsInvalidatedOnBookingTest() {
+        ItemDto created = itemService.createItem(ItemMapper.toItemDto(item), new UserPrincipal(user.getId()));
+        assertNull(itemService.getItemById(created.getId(), user.getId()).getNextBooking());
+
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(created.getId())
+                .build();
+        BookingDto booking = bookingService.createBooking(bookingDto, new UserPrincipal(user2.getId()));
+
+        ItemDtoWithBooking ownerView = itemService.getItemById(created.getId(), user.getId());
+        assertEquals(booking.getId(), ownerView.getNextBooking().getId());
+        assertNull(itemService.getItemById(created.getId(), user2.getId()).getNextBooking());
+    }
+
+    @Test
+    void getItemAvailabilityIsInvalidatedOnBookingTest() {
+        ItemDto created = itemService.createItem(ItemMapper.toItemDto(new Item(null, user, "item1", "description1",
+                true, null, null)), new UserPrincipal(user.getId()));
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        LocalDateTime end = start.plusDays(10);
+        assertEquals(1, itemService.getItemAvailability(created.getId(), start, end).getFree().size());
+
+        BookingDto bookingDto = BookingDto.builder()
+                .start(start.plusDays(2))
+                .end(start.plusDays(3))
+                .itemId(created.getId())
+                .build();
+        BookingDto booking = bookingService.createBooking(bookingDto, new UserPrincipal(user2.getId()));
+
+        List<ItemAvailabilityDto.Interval> free = itemService.getItemAvailability(created.getId(), start, end)
+                .getFree();
+        assertEquals(2, free.size());
+        assertEquals(start.plusDays(2), free.get(0).getEnd());
+        assertEquals(start.plusDays(3), free.get(1).getStart());
+
+        bookingService.updateBooking(booking.getId(), new UserPrincipal(user.getId()), false);
+        assertEquals(1, itemService.getItemAvailability(created.getId(), start, end).getFree().size());
+    }
+
+    @Test
+    void getItemAvailabilityWithInvalidWindowTest() {
+        LocalDateTime start = LocalDateTime.now();
+        assertThrows(ValidationException.class, () -> itemService.getItemAvailability(1L, start, start));
+        assertThrows(NotFoundException.class,
+                () -> itemService.getItemAvailability(-1L, start, start.plusDays(1)));
+    }
+
+    @Test
+    void getAllByUserIdTest() {
+        assertEquals(List.of(itemCommentDto).get(0).getId(),
+                itemService.retrieveAllItemByUserId(item1.getOwner().getId()).get(0).getId());
+    }
+
+
+    @Test
+    void createItemDtoTest() {
+        ItemDto item2 = itemService.createItem(ItemMapper.toItemDto(item1),
+                new UserPrincipal(item1.getOwner().getId()));
+        assertEquals(itemRepository.findById(item1.getId()).orElse(null).getId(), item2.getId());
+    }
+
+    @Test
+    void searchItemByBlankTextTest() {
+        assertEquals(new ArrayList<>(),
+                itemService.searchItemByKeyword(" ", 0, 10, null, null));
+    }
+
+    @Test
+    void searchItemByTextTest() {
+        assertEquals(List.of(ItemMapper.toItemDto(item1)).get(0).getId(),
+                itemService.searchItemByKeyword("descrip", 0, 10, null, null).get(0).getId());
+    }
+
+    @Test
+    void searchItemFreeBetweenTest() {
+        ItemDto tent = itemService.createItem(ItemMapper.toItemDto(new Item(null, user, "tent", "tent for two",
+                true, null, null)), new UserPrincipal(user.getId()));
+        LocalDateTime start = LocalDateTime.now().plusDays(5).withNano(0);
+        BookingDto bookingDto = BookingDto.builder()
+                .start(start)
+                .end(start.plusDays(2))
+                .itemId(tent.getId())
+                .build();
+        BookingDto booking = bookingService.createBooking(bookingDto, new UserPrincipal(user2.getId()));
+        assertEquals(1, itemService.searchItemByKeyword("tent", 0, 10, start, start.plusDays(1)).size());
+
+        bookingService.updateBooking(booking.getId(), new UserPrincipal(user.getId()), true);
+
+        assertEquals(List.of(), itemService.searchItemByKeyword("tent", 0, 10, start.minusDays(1), start.plusDays(1)));
+        assertEquals(List.of(), itemService.searchItemByKeyword("tent", 0, 10, start.plusHours(1), start.plusHours(2)));
+        assertEquals(tent.getId(), itemService.searchItemByKeyword("tent", 0, 10, start.plusDays(2),
+                start.plusDays(3)).get(0).getId());
+        assertThrows(ValidationException.class,
+                () -> itemService.searchItemByKeyword("tent", 0, 10, start, null));
+    }
+
+    @Test
+    void searchItemWithNegativeSizeTest() {
+        assertThrows(ValidationException.class, () -> itemService.searchItemByKeyword("descrip", 0, 0, null, null));
+    }
+
+    @Test
+    void createNotValidNameItemTest() {
+        Item item = new Item(1L, user, "", "description1", true,
+                null, null);
+        assertThrows(ValidationException.class, () -> itemService.createItem(ItemMapper.toItemDto(item),
+                new UserPrincipal(item.getOwner().getId())));
+    }
+
+    @Test
+    void createNotValidDescriptionItemTest() {
+        Item item11 = new Item(1L, user, "item1", null, true,
+                null, null);
+        assertThrows(ValidationException.class, () -> itemService.createItem(ItemMapper.toItemDto(item11),
+                new UserPrincipal(item11.getOwner().getId())));
+    }
+
+    @Test
+    void createNotValidAvailableItemTest() {
+        Item item = new Item(1L, user, "item1", "description1", null,
+                null, null);
+        assertThrows(ValidationException.class, () -> itemService.createItem(ItemMapper.toItemDto(item),
+                new UserPrincipal(item.getOwner().getId())));
+    }
+
+    @Test
+    void updateItemTest() {
+        Item item = new Item(1L, user, "item1", "description1", true,
+                null, null);
+        itemService.createItem(ItemMapper.toItemDto(item),
+                new UserPrincipal(item.getOwner().getId()));
+
+        Item toUpdateItem = new Item();
+        toUpdateItem.setAvailable(false);
+        toUpdateItem.setDescription("udated");
+        toUpdateItem.setName("updatedName");
+        userService.getUserById(1L);
+        itemRepository.findById(1L);
+
+        itemService.updateItem(ItemMapper.toItemDto(toUpdateItem), 1L, new UserPrincipal(1L));
+        toUpdateItem.setId(1L);
+        toUpdateItem.setOwner(user);
+
+        assertEquals(itemRepository.findById(item1.getId()).orElse(null).getDescription(),
+                toUpdateItem.getDescription());
+    }
+
+    @Test
+    void updateItemNotAcceptedTest() {
+        Item item = new Item(1L, user, "item1", "description1", true,
+                null, null);
+        itemService.createItem(ItemMapper.toItemDto(item),
+                new UserPrincipal(item.getOwner().getId()));
+
+        Item toUpdateItem = new Item();
+        toUpdateItem.setAvailable(false);
+        toUpdateItem.setDescription("udated");
+        toUpdateItem.setName("updatedName");
+        userService.getUserById(1L);
+        itemRepository.findById(1L);
+
+        assertThrows(NotFoundException.class,
+                () -> itemService.updateItem(ItemMapper.toItemDto(toUpdateItem), 1L, new UserPrincipal(2L)));
+    }
+
+    @Test
+    void addCommentTest() throws InterruptedException {
+        // отдельная вещь: у вещи с ID 1 могут остаться подтвержденные бронирования других тестов
+        ItemDto created = itemService.createItem(ItemMapper.toItemDto(new Item(null, user, "item1", "description1",
+                true, null, null)), new UserPrincipal(user.getId()));
+
+        BookingDto bookingDto = BookingDto.builder()
+                .start(LocalDateTime.now().plusSeconds(2))
+                .end(LocalDateTime.now().plusSeconds(4))
+                .itemId(created.getId())
+                .build();
+        Booking booking = BookingMapper.toBooking(user2, item1, bookingService.createBooking(
+                bookingDto, new UserPrincipal(user2.getId())));
+        bookingService.updateBooking(booking.getId(), new UserPrincipal(user.getId()), true);
+        CommentDto commentDto = new CommentDto();
+        commentDto.setText("text");
+        Thread.sleep(10000);
+        CommentDto comment = itemService.addComment(
+                created.getId(),
+                new UserPrincipal(user2.getId()),
+                commentDto
+        );
+        assertEquals(commentRepository.findById(comment.getId()).orElse(null).getText(), comment.getText());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.request.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.QueryBudget;
+import ru.practicum.shareit.RecordSqlStatements;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.UserExistenceIndex;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RecordSqlStatements
+class ItemRequestControllerQueryBudgetTest {
+
+    private static final int REQUESTS = 100;
+    private static final int ITEMS_PER_REQUEST = 3;
+    private static final long GENERATED_ID_GAP = 1_000_000L;
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserExistenceIndex userExistenceIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@mail.ru"});
+        }
+        List<Object[]> requests = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (long id = 1; id <= REQUESTS; id++) {
+            requests.add(new Object[]{GENERATED_ID_GAP + id, "request" + id, 3L, Timestamp.valueOf(now.minusHours(id))});
+            for (int i = 0; i < ITEMS_PER_REQUEST; i++) {
+                long itemId = (id - 1) * ITEMS_PER_REQUEST + i + 1;
+                items.add(new Object[]{itemId, "item" + itemId, "description" + itemId, true, 1L,
+                        GENERATED_ID_GAP + id});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO requests (id, description, user_id, created) VALUES (?, ?, ?, ?)",
+                requests);
+        jdbcTemplate.batchUpdate("INSERT INTO items (id, name, description, is_available, owner_id, request_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", items);
+        userExistenceIndex.rebuild();
+    }
+
+    @AfterEach
+    void afterEach() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "comments", "booking", "items", "requests", "users");
+        userExistenceIndex.rebuild();
+    }
+
+    @Test
+    void getOwnRequestsTest() throws Exception {
+        mvc.perform(get("/requests")
+                        .header("X-Sharer-User-Id", 3L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(REQUESTS)))
+                .andExpect(jsonPath("$[0].items", hasSize(ITEMS_PER_REQUEST)))
+                .andExpect(QueryBudget.statementsAtMost(3));
+    }
+
+    @Test
+    void getOtherRequestsTest() throws Exception {
+        mvc.perform(get("/requests/all")
+                        .param("from", "0")
+                        .param("size", "20")
+                        .header("X-Sharer-User-Id", 1L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(20)))
+                .andExpect(QueryBudget.statementsAtMost(2));
+    }
+
+    @Test
+    void getRequestTest() throws Exception {
+        mvc.perform(get("/requests/{id}", GENERATED_ID_GAP + 1)
+                        .header("X-Sharer-User-Id", 1L)
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(ITEMS_PER_REQUEST)))
+                .andExpect(QueryBudget.statementsAtMost(3));
+    }
+
+    @Test
+    void createRequestTest() throws Exception {
+        ItemRequestDto itemRequestDto = ItemRequestDto.builder()
+                .description("request")
+                .build();
+
+        mvc.perform(post("/requests")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(itemRequestDto))
+                        .with(QueryBudget.recordStatements()))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(3));
+    }
+}
@@ -11,6 +11,7 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.KnownUsers;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
@@ -36,6 +37,9 @@ class ItemRequestControllerTest {
 
     @MockBean
     private ItemRequestService itemRequestService;
+
+    @MockBean
+    private KnownUsers knownUsers;
     private final User user = new User(1L, "User1", "user1@mail.ru");
 
     private final ItemRequest itemRequest = new ItemRequest(1L, "text", user, LocalDateTime.now());
@@ -44,7 +48,7 @@ class ItemRequestControllerTest {
 
     @Test
     void createNewRequestTest() throws Exception {
-        when(itemRequestService.createItemRequest(anyLong(), any()))
+        when(itemRequestService.createItemRequest(any(), any()))
                 .thenReturn(ItemRequestMapper.toItemRequestDto(itemRequest, List.of(item)));
         mvc.perform(post("/requests")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -58,7 +62,7 @@ class ItemRequestControllerTest {
 
     @Test
     void getAllRequestsByUserTest() throws Exception {
-        when(itemRequestService.getAllMyItemRequest(anyLong()))
+        when(itemRequestService.getAllMyItemRequest(any()))
                 .thenReturn(List.of(ItemRequestMapper.toItemRequestDto(itemRequest, List.of(item))));
         mvc.perform(get("/requests")
                         .header("X-Sharer-User-Id", user.getId()))
@@ -80,7 +84,7 @@ class ItemRequestControllerTest {
 
     @Test
     void getRequestByIdTest() throws Exception {
-        when(itemRequestService.getItemRequestById(anyLong(), anyLong()))
+        when(itemRequestService.getItemRequestById(any(), anyLong()))
                 .thenReturn(ItemRequestMapper.toItemRequestDto(itemRequest, List.of(item)));
         mvc.perform(get("/requests/{id}", itemRequest.getId())
                         .header("X-Sharer-User-Id", user.getId()))
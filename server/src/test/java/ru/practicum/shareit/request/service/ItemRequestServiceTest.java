@@ -1,14 +1,18 @@
 package ru.practicum.shareit.request.service;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.request.ItemRequestMapper;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.UserMapper;
+import ru.practicum.shareit.user.UserPrincipal;
+import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
@@ -16,9 +20,12 @@ import javax.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @Transactional
@@ -42,7 +49,7 @@ class ItemRequestServiceTest {
     @Test
     void addNewRequestTest() {
         ItemRequestDto itemRequest1 = itemRequestService
-                .createItemRequest(itemRequest.getRequester().getId(),
+                .createItemRequest(new UserPrincipal(itemRequest.getRequester().getId()),
                         ItemRequestMapper.toItemRequestDto(itemRequest, new ArrayList<>()));
         assertEquals(ItemRequestMapper.toItemRequestDto(itemRequestRepository
                 .findById(itemRequest1.getId()).orElseThrow(), new ArrayList<>()).getId(), itemRequest1.getId());
@@ -62,13 +69,44 @@ class ItemRequestServiceTest {
 
     @Test
     void getRequestByIdTest() {
-        assertEquals(itemRequestService.getItemRequestById(itemRequest.getId(),
+        assertEquals(itemRequestService.getItemRequestById(new UserPrincipal(itemRequest.getId()),
                 user.getId()).getId(), ItemRequestMapper.toItemRequestDto(itemRequest, new ArrayList<>()).getId());
     }
 
     @Test
     void getAllRequestOrderByCreatedTest() {
-        assertEquals(itemRequestService.getAllMyItemRequest(user.getId()).get(0).getId(),
+        assertEquals(itemRequestService.getAllMyItemRequest(new UserPrincipal(user.getId())).get(0).getId(),
                 List.of(ItemRequestMapper.toItemRequestDto(itemRequest, new ArrayList<>())).get(0).getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllMyRequestsWithOwnItemsOnlyTest() {
+        ItemRequestRepository requestRepository = Mockito.mock(ItemRequestRepository.class);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        ItemRequestService service = new ItemRequestServiceImpl(requestRepository, userRepository,
+                Mockito.mock(ItemRepository.class));
+        ItemRequest first = new ItemRequest(10L, "first", user, LocalDateTime.now());
+        ItemRequest second = new ItemRequest(20L, "second", user, LocalDateTime.now());
+        ItemRequest third = new ItemRequest(30L, "third", user, LocalDateTime.now());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(requestRepository.findByRequester_IdOrderByCreatedAsc(user.getId()))
+                .thenReturn(List.of(first, second, third));
+        when(requestRepository.findItemsByRequestIds(List.of(10L, 20L, 30L))).thenReturn(List.of(
+                new ItemRequestDto.ItemDto(1L, "item1", "description1", true, 10L),
+                new ItemRequestDto.ItemDto(2L, "item2", "description2", true, 20L),
+                new ItemRequestDto.ItemDto(3L, "item3", "description3", false, 20L)));
+
+        List<ItemRequestDto> requests = service.getAllMyItemRequest(new UserPrincipal(user.getId()));
+
+        assertEquals(List.of(1L), itemIds(requests.get(0)));
+        assertEquals(List.of(2L, 3L), itemIds(requests.get(1)));
+        assertEquals(List.of(), itemIds(requests.get(2)));
+    }
+
+    private static List<Long> itemIds(ItemRequestDto itemRequestDto) {
+        return itemRequestDto.getItems()
+                .stream()
+                .map(ItemRequestDto.ItemDto::getId)
+                .collect(Collectors.toList());
+    }
+}
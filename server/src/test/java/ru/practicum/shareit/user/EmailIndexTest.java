@@ -0,0 +1,53 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.user.model.UserEmailView;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmailIndexTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EmailIndex emailIndex = new EmailIndex(userRepository, 1000);
+
+    @Test
+    void rebuildAndAddTest() {
+        when(userRepository.findEmailsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(view(1L, "User1@Mail.ru"), view(2L, "user2@mail.ru")));
+        emailIndex.rebuild();
+
+        assertTrue(emailIndex.mightExist("user1@mail.ru"));
+        assertTrue(emailIndex.mightExist(" USER2@mail.ru "));
+        assertFalse(emailIndex.mightExist("user3@mail.ru"));
+
+        emailIndex.add("user3@mail.ru");
+        assertTrue(emailIndex.mightExist("user3@mail.ru"));
+    }
+
+    @Test
+    void everyEmailMightExistBeforeRebuildTest() {
+        assertTrue(emailIndex.mightExist("user1@mail.ru"));
+    }
+
+    private static UserEmailView view(Long id, String email) {
+        return new UserEmailView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.NotFoundException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KnownUsersTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserExistenceIndex userExistenceIndex = mock(UserExistenceIndex.class);
+    private final KnownUsers knownUsers = new KnownUsers(userRepository, userExistenceIndex);
+
+    @Test
+    void resolveByIndexTest() {
+        when(userExistenceIndex.contains(1L)).thenReturn(true);
+
+        assertEquals(new UserPrincipal(1L), knownUsers.resolve(1L));
+
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void resolveMissFallsBackToDatabaseTest() {
+        when(userRepository.existsById(2L)).thenReturn(true);
+
+        assertEquals(new UserPrincipal(2L), knownUsers.resolve(2L));
+        assertThrows(NotFoundException.class, () -> knownUsers.resolve(3L));
+
+        verify(userRepository).existsById(3L);
+    }
+}
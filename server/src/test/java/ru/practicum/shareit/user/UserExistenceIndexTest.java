@@ -0,0 +1,62 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserExistenceIndexTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserExistenceIndex index = new UserExistenceIndex(userRepository);
+
+    @Test
+    void rebuildLoadsIdsByChunksTest() {
+        List<Long> firstChunk = LongStream.rangeClosed(1, 10_000).boxed().collect(Collectors.toList());
+        when(userRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(firstChunk);
+        when(userRepository.findIdsAfter(eq(10_000L), any(Pageable.class))).thenReturn(List.of(70_000L));
+
+        index.rebuild();
+
+        assertEquals(10_001, index.size());
+        assertTrue(index.contains(10_000L));
+        assertTrue(index.contains(70_000L));
+        assertFalse(index.contains(10_001L));
+        assertFalse(index.contains(0L));
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void addAndRemoveTest() {
+        when(userRepository.findIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        index.rebuild();
+
+        index.add(5L);
+        assertTrue(index.contains(5L));
+
+        index.remove(5L);
+        assertFalse(index.contains(5L));
+        verify(userRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void idOutOfIntRangeIsNotContainedTest() {
+        when(userRepository.findIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        index.rebuild();
+
+        assertFalse(index.contains(Integer.MAX_VALUE + 1L));
+    }
+}
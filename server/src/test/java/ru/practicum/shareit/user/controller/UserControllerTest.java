@@ -8,15 +8,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.user.KnownUsers;
 import ru.practicum.shareit.user.model.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.core.Is.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,6 +34,9 @@ class UserControllerTest {
     @MockBean
     UserService userService;
 
+    @MockBean
+    KnownUsers knownUsers;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -97,7 +106,7 @@ class UserControllerTest {
 
     @Test
     void retrieveAllUsersTest() throws Exception {
-        when(userService.retrieveAllUsers())
+        when(userService.retrieveUsersAfter(0L, 10))
                 .thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/users"))
@@ -105,7 +114,51 @@ class UserControllerTest {
                 .andExpect(content().json("[]"));
 
         verify(userService, times(1))
-                .retrieveAllUsers();
+                .retrieveUsersAfter(0L, 10);
+    }
+
+    @Test
+    void retrieveUsersPageTest() throws Exception {
+        when(userService.retrieveUsers(0, 5))
+                .thenReturn(List.of(userDto1));
+
+        mockMvc.perform(get("/users?from=0&size=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(userDto1.getId()), Long.class));
+
+        verify(userService, never()).retrieveUsersAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void retrieveUsersAfterTest() throws Exception {
+        when(userService.retrieveUsersAfter(eq(0L), eq(1)))
+                .thenReturn(List.of(userDto1));
+
+        mockMvc.perform(get("/users?after=0&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(userDto1.getId())))
+                .andExpect(jsonPath("$[0].id", is(userDto1.getId()), Long.class));
+    }
+
+    @Test
+    void streamAllUsersTest() throws Exception {
+        UserDto userDto2 = new UserDto(2L, "user2", "user2@user2.ru");
+        doAnswer(invocation -> {
+            Consumer<UserDto> action = invocation.getArgument(0);
+            action.accept(userDto1);
+            action.accept(userDto2);
+            return null;
+        }).when(userService).streamAllUsers(any());
+
+        MvcResult result = mockMvc.perform(get("/users/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(mapper.writeValueAsString(userDto1) + "\n"
+                        + mapper.writeValueAsString(userDto2) + "\n"));
     }
 
     @Test
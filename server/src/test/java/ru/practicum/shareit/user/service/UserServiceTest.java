@@ -5,12 +5,16 @@ import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import ru.practicum.shareit.exception.ExistsElementException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.user.UserMapper;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserDto;
 
 import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,8 +48,29 @@ class UserServiceTest {
     }
 
     @Test
-    void retrieveAllUsersTest() {
-        assertEquals(3, userService.retrieveAllUsers().size());
+    void retrieveUsersTest() {
+        List<UserDto> users = userService.retrieveUsers(1, 1);
+        assertEquals(1, users.size());
+        assertEquals(2L, users.get(0).getId());
+        assertThrows(ValidationException.class, () -> userService.retrieveUsers(-1, 1));
+    }
+
+    @Test
+    void retrieveUsersAfterTest() {
+        List<Long> ids = userService.retrieveUsersAfter(1L, 10).stream()
+                .map(UserDto::getId)
+                .collect(Collectors.toList());
+        assertEquals(List.of(2L, 3L), ids);
+        assertThrows(ValidationException.class, () -> userService.retrieveUsersAfter(1L, 0));
+    }
+
+    @Test
+    void streamAllUsersTest() {
+        userRepository.flush();
+        List<UserDto> users = new ArrayList<>();
+        userService.streamAllUsers(users::add);
+        assertEquals(List.of(1L, 2L, 3L), users.stream().map(UserDto::getId).collect(Collectors.toList()));
+        assertEquals(user1.getEmail(), users.get(0).getEmail());
     }
 
     @Test
@@ -64,6 +89,13 @@ class UserServiceTest {
         assertEquals("newmail@test.ru", userService.getUserById(1L).getEmail());
     }
 
+    @Test
+    void updateUserWithExistingEmailTest() {
+        UserDto userDto = userService.getUserById(1L);
+        userDto.setEmail(user2.getEmail());
+        assertThrows(ExistsElementException.class, () -> userService.updateUser(1L, userDto));
+    }
+
     @Test
     void createUserTest() {
         UserDto newUser = userService.createUser(UserMapper.toUserDto(user3));
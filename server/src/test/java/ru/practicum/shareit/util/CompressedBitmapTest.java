@@ -0,0 +1,73 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressedBitmapTest {
+
+    @Test
+    void addRemoveContainsTest() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(1);
+        bitmap.add(1);
+        bitmap.add(70_000);
+
+        assertTrue(bitmap.contains(1));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(2));
+        assertEquals(2, bitmap.cardinality());
+
+        bitmap.remove(1);
+        bitmap.remove(70_000);
+        assertTrue(bitmap.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    void denseBlockTest() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value = 0; value < 10_000; value++) {
+            bitmap.add(value * 2);
+        }
+        assertEquals(10_000, bitmap.cardinality());
+        assertTrue(bitmap.contains(19_998));
+        assertFalse(bitmap.contains(19_999));
+
+        for (int value = 0; value < 9_000; value++) {
+            bitmap.remove(value * 2);
+        }
+        assertEquals(1_000, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(18_000));
+    }
+
+    @Test
+    void orMatchesTreeSetTest() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            CompressedBitmap first = new CompressedBitmap();
+            CompressedBitmap second = new CompressedBitmap();
+            TreeSet<Integer> expected = new TreeSet<>();
+            int bound = round % 2 == 0 ? 200_000 : 10_000;
+            int count = random.nextInt(8_000);
+            for (int i = 0; i < count; i++) {
+                int value = random.nextInt(bound);
+                (i % 2 == 0 ? first : second).add(value);
+                expected.add(value);
+            }
+            first.or(second);
+
+            assertEquals(expected.size(), first.cardinality());
+            for (int value = 0; value < bound; value += 7) {
+                assertEquals(expected.contains(value), first.contains(value));
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HashedTimerWheelTest {
+
+    @Test
+    void firesNotBeforeDeadlineTest() {
+        HashedTimerWheel wheel = new HashedTimerWheel(100, 8, 0);
+        wheel.schedule(1L, 250);
+        wheel.schedule(2L, 300);
+
+        assertArrayEquals(new long[0], wheel.advance(249));
+        assertArrayEquals(new long[0], wheel.advance(299));
+        long[] expired = wheel.advance(300);
+        Arrays.sort(expired);
+        assertArrayEquals(new long[]{1L, 2L}, expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void keepsTimersOfLaterRoundsTest() {
+        HashedTimerWheel wheel = new HashedTimerWheel(100, 8, 0);
+        wheel.schedule(1L, 200);
+        wheel.schedule(2L, 200 + 8 * 100);
+
+        assertArrayEquals(new long[]{1L}, wheel.advance(500));
+        assertEquals(1, wheel.size());
+        assertArrayEquals(new long[0], wheel.advance(999));
+        assertArrayEquals(new long[]{2L}, wheel.advance(1000));
+    }
+
+    @Test
+    void advanceOverSeveralRoundsTest() {
+        HashedTimerWheel wheel = new HashedTimerWheel(100, 8, 0);
+        wheel.schedule(1L, 150);
+        wheel.schedule(2L, 5_000);
+        wheel.schedule(3L, 50_000);
+
+        long[] expired = wheel.advance(10_000);
+        Arrays.sort(expired);
+        assertArrayEquals(new long[]{1L, 2L}, expired);
+        assertArrayEquals(new long[]{3L}, wheel.advance(50_000));
+    }
+
+    @Test
+    void overdueTimerFiresOnNextTickTest() {
+        HashedTimerWheel wheel = new HashedTimerWheel(100, 8, 1_000);
+        wheel.advance(1_000);
+        wheel.schedule(1L, 0);
+
+        assertArrayEquals(new long[0], wheel.advance(1_050));
+        assertArrayEquals(new long[]{1L}, wheel.advance(1_100));
+    }
+
+    @Test
+    void wheelSizeMustBePowerOfTwoTest() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimerWheel(100, 6, 0));
+    }
+}
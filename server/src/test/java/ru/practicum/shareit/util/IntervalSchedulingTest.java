@@ -0,0 +1,109 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalSchedulingTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    void choosesByEarliestEndTest() {
+        int[] longOne = {0, 10};
+        int[] first = {1, 3};
+        int[] second = {3, 5};
+        int[] third = {4, 7};
+        int[] fourth = {6, 9};
+
+        assertEquals(List.of(first, second, fourth),
+                choose(List.of(longOne, first, second, third, fourth), List.of()));
+    }
+
+    @Test
+    void skipsCandidatesOverlappingFixedTest() {
+        int[] early = {0, 2};
+        int[] blocked = {3, 6};
+        int[] late = {6, 8};
+        int[] approved = {2, 4};
+
+        assertEquals(List.of(early, late), choose(List.of(early, blocked, late), List.<int[]>of(approved)));
+    }
+
+    @Test
+    void matchesExhaustiveSearchTest() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<int[]> candidates = randomIntervals(random, random.nextInt(10));
+            List<int[]> fixed = randomIntervals(random, random.nextInt(3));
+
+            List<int[]> chosen = choose(candidates, fixed);
+
+            assertEquals(bestSize(candidates, fixed), chosen.size());
+            for (int i = 0; i < chosen.size(); i++) {
+                for (int[] other : fixed) {
+                    assertTrue(!overlaps(chosen.get(i), other));
+                }
+                for (int j = i + 1; j < chosen.size(); j++) {
+                    assertTrue(!overlaps(chosen.get(i), chosen.get(j)));
+                }
+            }
+        }
+    }
+
+    private static List<int[]> choose(List<int[]> candidates, List<int[]> fixed) {
+        return IntervalScheduling.maxNonOverlapping(candidates, fixed,
+                interval -> BASE.plusHours(interval[0]), interval -> BASE.plusHours(interval[1]));
+    }
+
+    private static List<int[]> randomIntervals(Random random, int count) {
+        List<int[]> intervals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(20);
+            intervals.add(new int[]{start, start + 1 + random.nextInt(5)});
+        }
+        return intervals;
+    }
+
+    private static int bestSize(List<int[]> candidates, List<int[]> fixed) {
+        int best = 0;
+        for (int mask = 0; mask < 1 << candidates.size(); mask++) {
+            List<int[]> subset = new ArrayList<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                if ((mask & 1 << i) != 0) {
+                    subset.add(candidates.get(i));
+                }
+            }
+            if (compatible(subset, fixed)) {
+                best = Math.max(best, subset.size());
+            }
+        }
+        return best;
+    }
+
+    private static boolean compatible(List<int[]> subset, List<int[]> fixed) {
+        for (int i = 0; i < subset.size(); i++) {
+            for (int[] other : fixed) {
+                if (overlaps(subset.get(i), other)) {
+                    return false;
+                }
+            }
+            for (int j = i + 1; j < subset.size(); j++) {
+                if (overlaps(subset.get(i), subset.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean overlaps(int[] first, int[] second) {
+        return first[0] < second[1] && second[0] < first[1];
+    }
+}
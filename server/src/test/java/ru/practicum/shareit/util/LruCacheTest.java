@@ -0,0 +1,47 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LruCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedTest() {
+        LruCache<Long, String> cache = new LruCache<>(2);
+        cache.get(1L, String::valueOf);
+        cache.get(2L, String::valueOf);
+        cache.get(1L, key -> "reloaded");
+        cache.get(3L, String::valueOf);
+
+        assertEquals("1", cache.get(1L, key -> "reloaded"));
+        assertEquals("reloaded", cache.get(2L, key -> "reloaded"));
+
+        LruCache.Stats stats = cache.stats();
+        assertEquals(2, stats.getHits());
+        assertEquals(4, stats.getMisses());
+        assertEquals(2, stats.getEvictions());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    void invalidateTest() {
+        LruCache<Long, String> cache = new LruCache<>(2);
+        cache.get(1L, String::valueOf);
+        cache.invalidate(1L);
+
+        assertEquals("reloaded", cache.get(1L, key -> "reloaded"));
+    }
+
+    @Test
+    void doesNotCacheValueLoadedDuringInvalidationTest() {
+        LruCache<Long, String> cache = new LruCache<>(2);
+        cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertEquals("fresh", cache.get(1L, key -> "fresh"));
+        assertEquals(0, cache.stats().getHits());
+    }
+}
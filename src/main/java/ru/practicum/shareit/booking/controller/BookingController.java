@@ -1,65 +0,0 @@
-package ru.practicum.shareit.booking.controller;
-
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.web.bind.annotation.*;
-import ru.practicum.shareit.booking.dto.BookingDto;
-import ru.practicum.shareit.booking.service.BookingService;
-
-import javax.validation.Valid;
-import javax.websocket.server.PathParam;
-import java.util.List;
-
-
-@RestController
-@RequestMapping(path = "/bookings")
-@RequiredArgsConstructor
-@Slf4j
-public class BookingController {
-
-
-    @Autowired
-    private final BookingService bookingService;
-
-    @PostMapping
-    public BookingDto createBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                    @RequestBody @Valid BookingDto bookingDto) {
-        return bookingService.createBooking(bookingDto, userId);
-    }
-
-    @PatchMapping("/{bookingId}")
-    public BookingDto updateBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                    @PathVariable Long bookingId, @PathParam("approved") @NonNull Boolean approved) {
-        return bookingService.updateBooking(bookingId, userId, approved);
-    }
-
-    @GetMapping("/{bookingId}")
-    public BookingDto getBookingById(@RequestHeader("X-Sharer-User-Id") Long userId, @PathVariable Long bookingId) {
-        return bookingService.getBookingById(bookingId, userId);
-    }
-
-    @GetMapping
-    public List<BookingDto> getAllBookingForBooker(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                   @PathParam("state") String state,
-                                                   @RequestParam(required = false, defaultValue = "0") Integer from,
-                                                   @RequestParam(required = false, defaultValue = "10") Integer size) {
-        if (state == null) {
-            state = "ALL";
-        }
-        return bookingService.getAllBookingByUserId(userId, state, from, size);
-    }
-
-    @GetMapping("/owner")
-    public List<BookingDto> getAllBookingForOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                  @PathParam("state") String state,
-                                                  @RequestParam(required = false, defaultValue = "0") Integer from,
-                                                  @RequestParam(required = false, defaultValue = "10") Integer size) {
-        if (state == null) {
-            state = "ALL";
-        }
-        return bookingService.getAllBookingByOwnerId(userId, state, from, size);
-    }
-
-}
@@ -1,11 +0,0 @@
-package ru.practicum.shareit.item;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-import ru.practicum.shareit.item.model.Comment;
-
-import java.util.List;
-
-public interface CommentRepository extends JpaRepository<Comment, Long> {
-
-    List<Comment> findByItem_IdOrderByCreatedDesc(Long itemId);
-}
@@ -1,11 +0,0 @@
-package ru.practicum.shareit.user;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-import ru.practicum.shareit.user.model.User;
-
-import java.util.Optional;
-
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByEmail(String email);
-}
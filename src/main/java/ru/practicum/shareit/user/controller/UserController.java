@@ -1,46 +0,0 @@
-package ru.practicum.shareit.user.controller;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.web.bind.annotation.*;
-import ru.practicum.shareit.user.model.UserDto;
-import ru.practicum.shareit.user.service.UserService;
-
-import javax.validation.Valid;
-import java.util.List;
-
-@RestController
-@RequestMapping(path = "/users")
-@RequiredArgsConstructor
-public class UserController {
-
-    @Autowired
-    private final UserService userService;
-
-    @PostMapping
-    public UserDto createUser(@RequestBody @Valid UserDto userDto) {
-        return userService.createUser(userDto);
-    }
-
-    @PatchMapping("/{id}")
-    public UserDto updateUser(@RequestBody UserDto userDto, @PathVariable Long id) {
-        return userService.updateUser(id, userDto);
-    }
-
-
-    @GetMapping("/{id}")
-    public UserDto getUserById(@PathVariable Long id) {
-        return userService.getUserById(id);
-    }
-
-    @GetMapping
-    public List<UserDto> retrieveAllUsers() {
-        return userService.retrieveAllUsers();
-    }
-
-    @DeleteMapping(value = "/{id}")
-    public void removeUserById(@PathVariable Long id) {
-        userService.removeUserById(id);
-    }
-
-}
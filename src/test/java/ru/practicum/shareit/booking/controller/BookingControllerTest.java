@@ -1,122 +0,0 @@
-package ru.practicum.shareit.booking.controller;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.http.MediaType;
-import org.springframework.test.web.servlet.MockMvc;
-import ru.practicum.shareit.booking.BookingMapper;
-import ru.practicum.shareit.booking.dto.BookingDto;
-import ru.practicum.shareit.booking.model.Booking;
-import ru.practicum.shareit.booking.model.BookingStatus;
-import ru.practicum.shareit.booking.service.BookingService;
-import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.user.model.User;
-
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.util.List;
-
-import static org.hamcrest.Matchers.is;
-import static org.hamcrest.Matchers.notNullValue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.*;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-
-@WebMvcTest(controllers = BookingController.class)
-class BookingControllerTest {
-
-    @Autowired
-    private MockMvc mvc;
-    @Autowired
-    private ObjectMapper objectMapper;
-    @MockBean
-    private BookingService bookingService;
-
-    private final User user = new User(1L, "User1", "user1@mail.ru");
-    private final User user2 = new User(2L, "User2", "user2@mail.ru");
-    private final Item item = new Item(1L, user, "item1", "description1", true, null, null);
-    private final Booking booking = new Booking(1L, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1),
-            item, user2, BookingStatus.WAITING);
-
-    private final BookingDto bookingDto = BookingMapper.toBookingDto(booking);
-
-    @Test
-    void getById() throws Exception {
-        when(bookingService.getBookingById(anyLong(), anyLong())).thenReturn(bookingDto);
-        mvc.perform(get("/bookings/{id}", booking.getId())
-                        .header("X-Sharer-User-Id", user.getId()))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(notNullValue())))
-                .andExpect(jsonPath("$.item.name", is(booking.getItem().getName())));
-    }
-
-    @Test
-    void createBooking() throws Exception {
-        when(bookingService.createBooking(any(), anyLong())).thenReturn(bookingDto);
-        mvc.perform(post("/bookings")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(BookingMapper.toBookingDto(booking)))
-                        .header("X-Sharer-User-Id", user.getId()))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(notNullValue())))
-                .andExpect(jsonPath("$.item.name", is(booking.getItem().getName())));
-    }
-
-    @Test
-    void updateStatus() throws Exception {
-        booking.setStatus(BookingStatus.APPROVED);
-        when(bookingService.updateBooking(anyLong(), anyLong(), anyBoolean()))
-                .thenReturn(BookingMapper.toBookingDto(booking));
-
-        mvc.perform(patch("/bookings/{id}", booking.getId())
-                        .param("approved", "true")
-                        .content(objectMapper.writeValueAsString(bookingDto))
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .accept(MediaType.APPLICATION_JSON)
-                        .header("X-Sharer-User-Id", user.getId()))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id", is(notNullValue())))
-                .andExpect(jsonPath("$.status", is(BookingStatus.APPROVED.toString())));
-    }
-
-    @Test
-    void getAllByUser() throws Exception {
-        when(bookingService.getAllBookingByUserId(anyLong(), anyString(), anyInt(), anyInt()))
-                .thenReturn(List.of(bookingDto));
-
-        mvc.perform(get("/bookings")
-                        .header("X-Sharer-User-Id", user2.getId())
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .characterEncoding(StandardCharsets.UTF_8))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id", is(notNullValue())))
-                .andExpect(jsonPath("$[0].item.name", is(booking.getItem().getName())));
-
-        Mockito
-                .verify(bookingService, Mockito.times(1))
-                .getAllBookingByUserId(anyLong(), anyString(), anyInt(), anyInt());
-    }
-
-    @Test
-    void getAllByOwner() throws Exception {
-        when(bookingService.getAllBookingByOwnerId(anyLong(), anyString(), anyInt(), anyInt()))
-                .thenReturn(List.of(bookingDto));
-
-        mvc.perform(get("/bookings/owner")
-                        .header("X-Sharer-User-Id", user.getId()))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id", is(notNullValue())))
-                .andExpect(jsonPath("$[0].item.name", is(booking.getItem().getName())));
-
-        Mockito
-                .verify(bookingService, Mockito.times(1))
-                .getAllBookingByOwnerId(anyLong(), anyString(), anyInt(), anyInt());
-    }
-}
\ No newline at end of file